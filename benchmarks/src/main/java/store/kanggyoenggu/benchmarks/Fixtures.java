@@ -0,0 +1,54 @@
+package store.kanggyoenggu.benchmarks;
+
+// 벤치마크 공통 입력값 (실제 제공자 응답 형태를 본뜬 샘플)
+final class Fixtures {
+
+    static final String JWT_SECRET = "benchmark-secret-key-0123456789-abcdefghijklmnop";
+    static final Long KAKAO_ID = 3141592653L;
+    static final String NICKNAME = "홍길동";
+    static final String FRONTEND_CALLBACK_URL = "http://localhost:3000/dashboard";
+
+    static final String KAKAO_USER_INFO_JSON = """
+            {
+              "id": 3141592653,
+              "connected_at": "2025-11-24T01:23:45Z",
+              "properties": {"nickname": "홍길동"},
+              "kakao_account": {
+                "profile_nickname_needs_agreement": false,
+                "profile_image_needs_agreement": false,
+                "profile": {
+                  "nickname": "홍길동",
+                  "thumbnail_image_url": "http://k.kakaocdn.net/dn/abc/img_110x110.jpg",
+                  "profile_image_url": "http://k.kakaocdn.net/dn/abc/img_640x640.jpg",
+                  "is_default_image": false
+                }
+              }
+            }
+            """;
+
+    static final String NAVER_USER_INFO_JSON = """
+            {
+              "resultcode": "00",
+              "message": "success",
+              "response": {
+                "id": "32742776",
+                "nickname": "홍길동",
+                "name": "홍길동",
+                "profile_image": "https://ssl.pstatic.net/static/pwe/address/img_profile.png"
+              }
+            }
+            """;
+
+    static final String GOOGLE_USER_INFO_JSON = """
+            {
+              "id": "109876543210987654321",
+              "name": "Gildong Hong",
+              "given_name": "Gildong",
+              "family_name": "Hong",
+              "picture": "https://lh3.googleusercontent.com/a/default-user=s96-c"
+            }
+            """;
+
+    private Fixtures() {
+    }
+}
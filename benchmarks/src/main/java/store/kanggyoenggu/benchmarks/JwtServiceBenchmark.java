@@ -0,0 +1,63 @@
+package store.kanggyoenggu.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import store.kanggyoenggu.authservice.jwt.JwtProperties;
+import store.kanggyoenggu.authservice.jwt.JwtService;
+
+// JwtService 토큰 발급/파싱/검증 벤치마크
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private String validToken;
+    private String tamperedToken;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(Fixtures.JWT_SECRET);
+        jwtService = new JwtService(properties);
+
+        validToken = jwtService.generateToken(Fixtures.KAKAO_ID, Fixtures.NICKNAME);
+        tamperedToken = validToken.substring(0, validToken.length() - 2) + "xx";
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(Fixtures.KAKAO_ID, Fixtures.NICKNAME);
+    }
+
+    @Benchmark
+    public Map<String, Object> parseToken() {
+        return jwtService.parseToken(validToken);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtService.validateToken(validToken);
+    }
+
+    // 서명이 틀린 토큰 (예외 경로 비용)
+    @Benchmark
+    public boolean validateTamperedToken() {
+        return jwtService.validateToken(tamperedToken);
+    }
+}
@@ -0,0 +1,69 @@
+package store.kanggyoenggu.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import store.kanggyoenggu.api.ratelimit.RateLimitProperties;
+import store.kanggyoenggu.api.ratelimit.TokenBuckets;
+
+// Gateway LocalRateLimiter 토큰 버킷 판정 비용 벤치마크 (요청당 ns)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RateLimiterBenchmark {
+
+    private static final String ROUTE_ID = "auth-service";
+    private static final int KEY_COUNT = 10_000;
+
+    // 초당 1,000,000회 / 버킷 크기 1,000,000 → 측정 중 거부 없이 판정 비용만 측정
+    private static final long INTERVAL_NANOS = 1_000;
+    private static final long BURST_NANOS = INTERVAL_NANOS * 1_000_000;
+
+    private TokenBuckets tokenBuckets;
+    private String[] keys;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        tokenBuckets = new TokenBuckets(new RateLimitProperties());
+        keys = new String[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = "u:" + i;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        tokenBuckets.destroy();
+    }
+
+    // 같은 사용자가 반복 요청 (CAS 경합 최대)
+    @Benchmark
+    public long sameKey() {
+        return tokenBuckets.tryAcquire(ROUTE_ID, keys[0], INTERVAL_NANOS, BURST_NANOS, System.nanoTime());
+    }
+
+    // 사용자 10,000명이 돌아가며 요청
+    @Benchmark
+    public long manyKeys() {
+        int index = next++;
+        if (next == KEY_COUNT) {
+            next = 0;
+        }
+        return tokenBuckets.tryAcquire(ROUTE_ID, keys[index], INTERVAL_NANOS, BURST_NANOS, System.nanoTime());
+    }
+}
@@ -0,0 +1,51 @@
+package store.kanggyoenggu.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import store.kanggyoenggu.authservice.auth.OAuthRedirects;
+import store.kanggyoenggu.authservice.jwt.JwtProperties;
+import store.kanggyoenggu.authservice.jwt.JwtService;
+
+// OAuthRedirects 리다이렉트 응답 생성 벤치마크
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RedirectBenchmark {
+
+    private OAuthRedirects redirects;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(Fixtures.JWT_SECRET);
+        JwtService jwtService = new JwtService(properties);
+
+        redirects = new OAuthRedirects(Fixtures.FRONTEND_CALLBACK_URL);
+        token = jwtService.generateToken(Fixtures.KAKAO_ID, Fixtures.NICKNAME);
+    }
+
+    @Benchmark
+    public Object successRedirect() {
+        return redirects.success(token);
+    }
+
+    @Benchmark
+    public Object errorRedirect() {
+        return redirects.error("login_failed");
+    }
+}
@@ -0,0 +1,79 @@
+package store.kanggyoenggu.benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import store.kanggyoenggu.api.revocation.RevocationList;
+import store.kanggyoenggu.api.revocation.RevocationProperties;
+
+// Gateway JWT 폐기 목록 조회 비용 벤치마크 (요청당 ns)
+// 폐기 토큰 100,000개가 등록된 상태에서 폐기되지 않은 토큰(대부분의 요청)과 폐기된 토큰 조회
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RevocationListBenchmark {
+
+    private static final int REVOKED_COUNT = 100_000;
+    private static final int LIVE_COUNT = 10_000;
+
+    private RevocationList revocationList;
+    private String[] revoked;
+    private String[] live;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        revocationList = new RevocationList(new RevocationProperties());
+        long expiresAt = System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1);
+
+        revoked = new String[REVOKED_COUNT];
+        for (int i = 0; i < REVOKED_COUNT; i++) {
+            revoked[i] = UUID.randomUUID().toString();
+            revocationList.revoke(revoked[i], expiresAt);
+        }
+        live = new String[LIVE_COUNT];
+        for (int i = 0; i < LIVE_COUNT; i++) {
+            live[i] = UUID.randomUUID().toString();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        revocationList.destroy();
+    }
+
+    // 폐기되지 않은 토큰: Bloom 필터에서 대부분 바로 통과
+    @Benchmark
+    public boolean liveToken() {
+        int index = next++;
+        if (next == LIVE_COUNT) {
+            next = 0;
+        }
+        return revocationList.isRevoked(live[index]);
+    }
+
+    // 폐기된 토큰: Bloom 필터 + 정확한 집합 조회
+    @Benchmark
+    public boolean revokedToken() {
+        int index = next++;
+        if (next >= LIVE_COUNT) {
+            next = 0;
+        }
+        return revocationList.isRevoked(revoked[index]);
+    }
+}
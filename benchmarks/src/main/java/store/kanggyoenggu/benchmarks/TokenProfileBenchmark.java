@@ -0,0 +1,91 @@
+package store.kanggyoenggu.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import store.kanggyoenggu.authservice.jwt.JwtProperties;
+import store.kanggyoenggu.authservice.jwt.JwtService;
+
+// 토큰 프로필(STANDARD / COMPACT) x 서명 알고리즘별 발급/파싱 시간과 토큰 크기 비교
+// 요청당 바이트(토큰, Authorization 헤더)는 TokenSize 보조 카운터로 결과 표에 함께 출력
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenProfileBenchmark {
+
+    @Param({"STANDARD", "COMPACT"})
+    private JwtProperties.Profile profile;
+
+    @Param({"HS256", "EDDSA"})
+    private JwtProperties.Algorithm algorithm;
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(Fixtures.JWT_SECRET);
+        properties.setAlgorithm(algorithm);
+        properties.setProfile(profile);
+        jwtService = new JwtService(properties);
+
+        token = jwtService.generateToken("kakao", Fixtures.KAKAO_ID, Fixtures.NICKNAME);
+    }
+
+    @Benchmark
+    public String generateToken(TokenSize size) {
+        size.record();
+        return jwtService.generateToken("kakao", Fixtures.KAKAO_ID, Fixtures.NICKNAME);
+    }
+
+    // 서명 검증 + 클레임 JSON 파싱
+    @Benchmark
+    public Map<String, Object> parseToken(TokenSize size) {
+        size.record();
+        return jwtService.parseToken(token);
+    }
+
+    // 시간이 아닌 크기 값이라 EVENTS로 그대로 표시
+    // JMH가 Setup 직후 카운터를 0으로 초기화하므로 미리 계산한 값을 호출마다 복사 (필드 대입 2회, 측정 영향 무시 가능)
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class TokenSize {
+
+        public long tokenBytes;
+        public long authorizationHeaderBytes;
+
+        private long measuredTokenBytes;
+        private long measuredAuthorizationHeaderBytes;
+
+        @Setup(Level.Iteration)
+        public void measure(TokenProfileBenchmark benchmark) {
+            measuredTokenBytes = benchmark.token.getBytes(StandardCharsets.US_ASCII).length;
+            measuredAuthorizationHeaderBytes = ("Authorization: Bearer " + benchmark.token + "\r\n")
+                    .getBytes(StandardCharsets.US_ASCII).length;
+        }
+
+        void record() {
+            tokenBytes = measuredTokenBytes;
+            authorizationHeaderBytes = measuredAuthorizationHeaderBytes;
+        }
+    }
+}
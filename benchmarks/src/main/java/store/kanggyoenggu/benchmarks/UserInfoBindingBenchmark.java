@@ -0,0 +1,70 @@
+package store.kanggyoenggu.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import store.kanggyoenggu.authservice.google.GoogleUserInfo;
+import store.kanggyoenggu.authservice.kakao.KakaoUserInfo;
+import store.kanggyoenggu.authservice.naver.NaverUserInfo;
+
+// 제공자 사용자 정보 응답의 Jackson 바인딩 벤치마크
+// WebClient 기본 설정과 같게 알 수 없는 필드는 무시
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserInfoBindingBenchmark {
+
+    private ObjectReader kakaoReader;
+    private ObjectReader naverReader;
+    private ObjectReader googleReader;
+
+    private byte[] kakaoPayload;
+    private byte[] naverPayload;
+    private byte[] googlePayload;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+        kakaoReader = objectMapper.readerFor(KakaoUserInfo.class);
+        naverReader = objectMapper.readerFor(NaverUserInfo.class);
+        googleReader = objectMapper.readerFor(GoogleUserInfo.class);
+
+        kakaoPayload = Fixtures.KAKAO_USER_INFO_JSON.getBytes(java.nio.charset.StandardCharsets.UTF_8);
+        naverPayload = Fixtures.NAVER_USER_INFO_JSON.getBytes(java.nio.charset.StandardCharsets.UTF_8);
+        googlePayload = Fixtures.GOOGLE_USER_INFO_JSON.getBytes(java.nio.charset.StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public KakaoUserInfo kakaoUserInfo() throws Exception {
+        return kakaoReader.readValue(kakaoPayload);
+    }
+
+    @Benchmark
+    public NaverUserInfo naverUserInfo() throws Exception {
+        return naverReader.readValue(naverPayload);
+    }
+
+    @Benchmark
+    public GoogleUserInfo googleUserInfo() throws Exception {
+        return googleReader.readValue(googlePayload);
+    }
+}
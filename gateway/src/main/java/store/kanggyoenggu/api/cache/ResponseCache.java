@@ -0,0 +1,66 @@
+package store.kanggyoenggu.api.cache;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import store.kanggyoenggu.api.response.BufferedResponse;
+
+// Gateway 응답 캐시 저장소 (Caffeine, W-TinyLFU)
+// 크기는 응답 바이트 합으로 제한하고, 항목마다 TTL이 다름 (라우트 설정 또는 upstream Cache-Control)
+// 적중/미적중/축출 횟수는 cache.gets, cache.evictions 등 (cache=gateway.response)으로 노출
+@Component
+public class ResponseCache {
+
+    static final String CACHE_NAME = "gateway.response";
+
+    private final Cache<CacheKey, Entry> cache;
+
+    public ResponseCache(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxSize().toBytes())
+                .weigher((CacheKey key, Entry entry) -> entry.response().weight())
+                .expireAfter(new Expiry<CacheKey, Entry>() {
+                    @Override
+                    public long expireAfterCreate(CacheKey key, Entry entry, long currentTime) {
+                        return entry.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(CacheKey key, Entry entry, long currentTime,
+                            long currentDuration) {
+                        return entry.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(CacheKey key, Entry entry, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Entry get(CacheKey key) {
+        return cache.getIfPresent(key);
+    }
+
+    public void put(CacheKey key, BufferedResponse response, long ttlNanos) {
+        cache.put(key, new Entry(response, ttlNanos, System.nanoTime()));
+    }
+
+    // 캐시 키: 라우트 + 경로/쿼리 + 사용자 (+ 압축 방식)
+    public record CacheKey(String routeId, String pathAndQuery, String userId, String acceptEncoding) {
+    }
+
+    // storedAtNanos: Age 헤더 계산용
+    public record Entry(BufferedResponse response, long ttlNanos, long storedAtNanos) {
+    }
+}
@@ -0,0 +1,212 @@
+package store.kanggyoenggu.api.cache;
+
+import static org.springframework.cloud.gateway.support.GatewayToStringStyler.filterToStringCreator;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.HasRouteId;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import lombok.Getter;
+import lombok.Setter;
+import reactor.core.publisher.Mono;
+import store.kanggyoenggu.api.filter.JwtAuthenticationFilter;
+import store.kanggyoenggu.api.jwt.VerifiedToken;
+import store.kanggyoenggu.api.response.BufferedResponse;
+import store.kanggyoenggu.api.response.CapturingResponseDecorator;
+import store.kanggyoenggu.api.response.LocalResponses;
+
+// GET 응답 캐시 필터 (ResponseCache)
+// 캐시 키에 JWT 검증된 사용자 ID가 포함되므로 사용자별 응답도 다른 사용자에게 섞이지 않음
+// - 200 응답만, Set-Cookie가 있거나 maxEntrySize를 넘는 응답은 저장하지 않음
+// - cacheControl=honor: upstream Cache-Control(no-store, no-cache, private, s-maxage, max-age)과
+//   클라이언트의 no-cache 요청을 따르고, 지정이 없으면 ttl 사용
+// - cacheControl=override: Cache-Control을 무시하고 항상 ttl 사용
+// 응답에는 X-Cache: HIT/MISS (HIT이면 Age) 헤더 추가
+//
+// 사용 예 (application.yaml):
+//   filters:
+//     - name: ResponseCache
+//       args:
+//         ttl: 30s
+//         cacheControl: honor   # honor | override
+//         maxEntrySize: 65536   # 항목당 최대 바이트
+@Component
+public class ResponseCacheGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<ResponseCacheGatewayFilterFactory.Config> {
+
+    public static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    private final ResponseCache responseCache;
+
+    public ResponseCacheGatewayFilterFactory(ResponseCache responseCache) {
+        super(Config.class);
+        this.responseCache = responseCache;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("ttl", "cacheControl");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        String routeId = config.getRouteId();
+        long defaultTtlNanos = config.getTtl().toNanos();
+        boolean honor = config.getCacheControl() == CacheControlMode.HONOR;
+        int maxEntrySize = config.getMaxEntrySize();
+
+        GatewayFilter filter = new GatewayFilter() {
+            @Override
+            public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+                ServerHttpRequest request = exchange.getRequest();
+                if (request.getMethod() != HttpMethod.GET) {
+                    return chain.filter(exchange);
+                }
+
+                VerifiedToken verified = exchange.getAttribute(JwtAuthenticationFilter.VERIFIED_TOKEN_ATTR);
+                ResponseCache.CacheKey key = cacheKey(routeId, request, verified);
+
+                // 클라이언트가 새 응답을 요구하면 조회만 건너뛰고 결과는 다시 저장
+                boolean revalidate = honor && hasAnyDirective(request.getHeaders().getFirst(HttpHeaders.CACHE_CONTROL),
+                        "no-cache", "no-store");
+                if (!revalidate) {
+                    ResponseCache.Entry entry = responseCache.get(key);
+                    if (entry != null) {
+                        long ageSeconds = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - entry.storedAtNanos());
+                        LocalResponses.markServedLocally(exchange);
+                        return entry.response().writeTo(exchange.getResponse(), headers -> {
+                            headers.set(CACHE_STATUS_HEADER, "HIT");
+                            headers.set(HttpHeaders.AGE, Long.toString(ageSeconds));
+                        });
+                    }
+                }
+
+                exchange.getResponse().getHeaders().set(CACHE_STATUS_HEADER, "MISS");
+                CapturingResponseDecorator capture =
+                        new CapturingResponseDecorator(exchange.getResponse(), maxEntrySize);
+                return chain.filter(exchange.mutate().response(capture).build())
+                        .then(Mono.fromRunnable(() -> store(key, capture.captured(), verified != null)));
+            }
+
+            private void store(ResponseCache.CacheKey key, BufferedResponse response, boolean personal) {
+                if (response == null
+                        || response.status().value() != HttpStatus.OK.value()
+                        || response.headers().containsKey(HttpHeaders.SET_COOKIE)) {
+                    return;
+                }
+                long ttlNanos = honor
+                        ? ttlFromCacheControl(response.firstHeader(HttpHeaders.CACHE_CONTROL), personal, defaultTtlNanos)
+                        : defaultTtlNanos;
+                if (ttlNanos > 0) {
+                    responseCache.put(key, response, ttlNanos);
+                }
+            }
+
+            @Override
+            public String toString() {
+                return filterToStringCreator(ResponseCacheGatewayFilterFactory.this)
+                        .append("ttl", config.getTtl())
+                        .append("cacheControl", config.getCacheControl())
+                        .append("maxEntrySize", maxEntrySize)
+                        .toString();
+            }
+        };
+        // 응답 본문은 NettyWriteResponseFilter가 쓰므로 그보다 먼저 실행되어야 데코레이터로 본문을 받을 수 있음
+        return new OrderedGatewayFilter(filter, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+
+    private static ResponseCache.CacheKey cacheKey(String routeId, ServerHttpRequest request, VerifiedToken verified) {
+        String rawQuery = request.getURI().getRawQuery();
+        String pathAndQuery = rawQuery != null
+                ? request.getURI().getRawPath() + '?' + rawQuery
+                : request.getURI().getRawPath();
+        return new ResponseCache.CacheKey(
+                routeId,
+                pathAndQuery,
+                verified != null ? verified.userId() : null,
+                request.getHeaders().getFirst(HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    // upstream Cache-Control로 TTL 결정 (0이면 저장하지 않음)
+    // private은 사용자별 키(personal)일 때만 저장, s-maxage > max-age > 기본 TTL 순
+    static long ttlFromCacheControl(String cacheControl, boolean personal, long defaultTtlNanos) {
+        if (cacheControl == null || cacheControl.isBlank()) {
+            return defaultTtlNanos;
+        }
+        long maxAge = -1;
+        long sharedMaxAge = -1;
+        for (String directive : cacheControl.toLowerCase(Locale.ROOT).split(",")) {
+            String trimmed = directive.trim();
+            if (trimmed.equals("no-store") || trimmed.equals("no-cache")) {
+                return 0;
+            }
+            if (trimmed.equals("private") && !personal) {
+                return 0;
+            }
+            if (trimmed.startsWith("s-maxage=")) {
+                sharedMaxAge = parseSeconds(trimmed.substring("s-maxage=".length()));
+            } else if (trimmed.startsWith("max-age=")) {
+                maxAge = parseSeconds(trimmed.substring("max-age=".length()));
+            }
+        }
+        long seconds = sharedMaxAge >= 0 ? sharedMaxAge : maxAge;
+        return seconds >= 0 ? TimeUnit.SECONDS.toNanos(seconds) : defaultTtlNanos;
+    }
+
+    private static long parseSeconds(String value) {
+        try {
+            return Long.parseLong(value.replace("\"", "").trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static boolean hasAnyDirective(String cacheControl, String... directives) {
+        if (cacheControl == null) {
+            return false;
+        }
+        String lower = cacheControl.toLowerCase(Locale.ROOT);
+        for (String directive : directives) {
+            if (lower.contains(directive)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public enum CacheControlMode {
+        // upstream/클라이언트 Cache-Control을 따름
+        HONOR,
+        // Cache-Control 무시, 항상 ttl
+        OVERRIDE
+    }
+
+    @Getter
+    @Setter
+    public static class Config implements HasRouteId {
+
+        // 기본 TTL (honor 모드에서는 upstream에 max-age가 없을 때만)
+        private Duration ttl = Duration.ofSeconds(30);
+
+        private CacheControlMode cacheControl = CacheControlMode.HONOR;
+
+        // 항목당 최대 바이트
+        private int maxEntrySize = 64 * 1024;
+
+        private String routeId;
+    }
+}
@@ -0,0 +1,20 @@
+package store.kanggyoenggu.api.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Getter;
+import lombok.Setter;
+
+// Gateway 응답 캐시 공통 설정 Properties
+// (캐시 적용 여부와 TTL은 라우트별 ResponseCache 필터 args로 지정)
+@Configuration
+@ConfigurationProperties(prefix = "response-cache")
+@Getter
+@Setter
+public class ResponseCacheProperties {
+
+    // 전체 캐시 최대 크기 (본문 + 헤더 바이트 기준, 넘으면 W-TinyLFU로 축출)
+    private DataSize maxSize = DataSize.ofMegabytes(16);
+}
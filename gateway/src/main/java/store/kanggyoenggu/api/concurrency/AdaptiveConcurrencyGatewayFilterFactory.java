@@ -0,0 +1,143 @@
+package store.kanggyoenggu.api.concurrency;
+
+import static org.springframework.cloud.gateway.support.GatewayToStringStyler.filterToStringCreator;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.HasRouteId;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import store.kanggyoenggu.api.response.LocalResponses;
+
+// 라우트별 동시 처리 한도 필터 (AdaptiveConcurrency)
+// 라우트마다 독립된 한도(bulkhead)를 두고, upstream 응답 지연에 따라 한도를 자동 조정 (GradientLimit)
+// upstream이 느려지면 그 라우트의 한도만 줄어들어 빠르게 503 + Retry-After로 거절하고, 다른 라우트는 영향 없음
+// 현재 한도/처리 중 요청 수는 /actuator/gateway/routes의 필터 정보와
+// gateway.concurrency.limit, gateway.concurrency.inflight 게이지로 확인
+// LocalUserInfo/ResponseCache/SingleFlight보다 먼저 실행되어 그 요청들도 한도를 차지하지만,
+// Gateway가 직접 응답한 요청(LocalResponses)의 처리 시간은 upstream 지연이 아니므로 한도 조정에 쓰지 않음
+//
+// 사용 예 (application.yaml):
+//   filters:
+//     - name: AdaptiveConcurrency
+//       args:
+//         initialLimit: 20
+//         minLimit: 4
+//         maxLimit: 200
+@Component
+public class AdaptiveConcurrencyGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<AdaptiveConcurrencyGatewayFilterFactory.Config> {
+
+    static final String REJECTED_COUNTER = "gateway.concurrency.rejected";
+
+    // 라우트 ID별 현재 한도
+    private final Map<String, GradientLimit> limits = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public AdaptiveConcurrencyGatewayFilterFactory(MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("initialLimit", "minLimit", "maxLimit");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        String routeId = config.getRouteId() != null ? config.getRouteId() : "unknown";
+        GradientLimit limit = new GradientLimit(config.getInitialLimit(), config.getMinLimit(), config.getMaxLimit());
+
+        // 라우트 정의가 갱신되면 새 한도로 교체 (게이지는 라우트 ID로 현재 한도를 조회)
+        limits.put(routeId, limit);
+        Gauge.builder("gateway.concurrency.limit", limits, current -> current.get(routeId).getLimit())
+                .description("라우트별 동시 처리 한도")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        Gauge.builder("gateway.concurrency.inflight", limits, current -> current.get(routeId).getInFlight())
+                .description("라우트별 처리 중 요청 수")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        Counter rejected = Counter.builder(REJECTED_COUNTER)
+                .description("동시 처리 한도 초과로 거절된 요청 수")
+                .tag("route", routeId)
+                .register(meterRegistry);
+
+        GatewayFilter filter = new GatewayFilter() {
+            @Override
+            public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+                int inFlightAtStart = limit.tryAcquire();
+                if (inFlightAtStart < 0) {
+                    rejected.increment();
+                    return reject(exchange.getResponse(), limit);
+                }
+
+                long start = System.nanoTime();
+                return chain.filter(exchange)
+                        .doFinally(signal -> {
+                            if (signal == SignalType.ON_COMPLETE && !LocalResponses.isServedLocally(exchange)) {
+                                limit.onSuccess(System.nanoTime() - start, inFlightAtStart);
+                            } else if (signal == SignalType.ON_ERROR) {
+                                limit.onDropped();
+                            } else {
+                                limit.onIgnored();
+                            }
+                        });
+            }
+
+            @Override
+            public String toString() {
+                return filterToStringCreator(AdaptiveConcurrencyGatewayFilterFactory.this)
+                        .append("limit", limit.getLimit())
+                        .append("inFlight", limit.getInFlight())
+                        .append("minLimit", config.getMinLimit())
+                        .append("maxLimit", config.getMaxLimit())
+                        .toString();
+            }
+        };
+        // LocalRateLimiter(WRITE_RESPONSE_FILTER_ORDER - 5) 다음, LocalUserInfo(WRITE_RESPONSE_FILTER_ORDER - 2)보다 먼저
+        return new OrderedGatewayFilter(filter, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 4);
+    }
+
+    // 503 + Retry-After (평균 upstream 응답 시간, 최소 1초)
+    private static Mono<Void> reject(ServerHttpResponse response, GradientLimit limit) {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(limit.getLongRttNanos() + 999_999_999L));
+        response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        return response.setComplete();
+    }
+
+    @Getter
+    @Setter
+    public static class Config implements HasRouteId {
+
+        // 시작 한도 (이후 응답 지연에 따라 조정)
+        private int initialLimit = 20;
+
+        private int minLimit = 4;
+
+        private int maxLimit = 200;
+
+        private String routeId;
+    }
+}
@@ -0,0 +1,108 @@
+package store.kanggyoenggu.api.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 지연 시간 기반으로 스스로 조정되는 동시 처리 한도 (Gradient 방식)
+// 장기 평균 RTT(longRtt) 대비 최근 RTT가 길어지면 한도를 줄이고, 비슷하면 여유분(sqrt(limit))만큼 늘림
+//   gradient = clamp(tolerance * longRtt / rtt, 0.5, 1.0)
+//   newLimit = limit * gradient + sqrt(limit)  (smoothing으로 완만하게 반영)
+// 처리 중 요청이 한도의 절반도 안 되면 (여유 상태) 한도를 바꾸지 않음
+// tryAcquire()는 락 없이 CAS로 처리하고, 한도 갱신만 synchronized
+public class GradientLimit {
+
+    // 장기 RTT 지수 이동 평균 창 크기 (샘플 수)
+    private static final int LONG_WINDOW = 600;
+    // 이 배율까지의 RTT 증가는 정상으로 봄
+    private static final double RTT_TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    // upstream 오류 시 한도 감소 비율
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+
+    // synchronized로 보호
+    private double longRttNanos;
+    private long samples;
+
+    public GradientLimit(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("1 <= minLimit <= maxLimit 이어야 합니다.");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+    }
+
+    // 처리 슬롯 획득, 성공하면 획득 후 처리 중 요청 수, 한도 초과면 -1
+    public int tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return -1;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    // 정상 응답: 슬롯 반환 후 RTT로 한도 갱신
+    public void onSuccess(long rttNanos, int inFlightAtStart) {
+        inFlight.decrementAndGet();
+        update(rttNanos, inFlightAtStart);
+    }
+
+    // upstream 오류 (연결 실패, 타임아웃 등): 슬롯 반환 후 한도 감소
+    public void onDropped() {
+        inFlight.decrementAndGet();
+        synchronized (this) {
+            limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+        }
+    }
+
+    // 클라이언트 취소 등 측정에 쓰지 않는 종료: 슬롯만 반환
+    public void onIgnored() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public synchronized long getLongRttNanos() {
+        return (long) longRttNanos;
+    }
+
+    private synchronized void update(long rttNanos, int inFlightAtStart) {
+        if (rttNanos <= 0) {
+            return;
+        }
+        // 워밍업 동안은 단순 평균, 이후 지수 이동 평균
+        samples++;
+        double factor = samples < LONG_WINDOW ? 1.0 / samples : 2.0 / (LONG_WINDOW + 1);
+        longRttNanos += (rttNanos - longRttNanos) * factor;
+
+        // 지연이 크게 개선되면 (장기 평균이 2배 이상) 장기 평균을 빠르게 따라 내림
+        if (longRttNanos / rttNanos > 2.0) {
+            longRttNanos *= 0.95;
+        }
+
+        double current = limit;
+        if (inFlightAtStart < current / 2) {
+            return;
+        }
+
+        double gradient = Math.clamp(RTT_TOLERANCE * longRttNanos / rttNanos, 0.5, 1.0);
+        double target = current * gradient + Math.sqrt(current);
+        double next = current * (1 - SMOOTHING) + target * SMOOTHING;
+        limit = Math.clamp(next, minLimit, maxLimit);
+    }
+}
@@ -0,0 +1,137 @@
+package store.kanggyoenggu.api.filter;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.server.ServerWebExchange;
+
+import reactor.core.publisher.Mono;
+import store.kanggyoenggu.api.jwt.JwtProperties;
+import store.kanggyoenggu.api.jwt.JwtVerifier;
+import store.kanggyoenggu.api.jwt.VerifiedToken;
+import store.kanggyoenggu.api.revocation.RevocationList;
+
+// Gateway JWT 인증 필터
+// Authorization 헤더의 JWT를 엣지에서 한 번만 검증하고
+// 하위 서비스에는 X-User-Id / X-Kakao-Id / X-User-Nickname / X-User-Provider 헤더로 사용자 정보를 전달
+// 로그아웃으로 폐기된 토큰(RevocationList)은 검증 실패와 같이 처리
+@Component
+public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
+
+    // 검증된 사용자 정보를 담는 exchange attribute (다른 필터에서 사용)
+    public static final String VERIFIED_TOKEN_ATTR = JwtAuthenticationFilter.class.getName() + ".verifiedToken";
+
+    public static final String USER_ID_HEADER = "X-User-Id";
+    public static final String KAKAO_ID_HEADER = "X-Kakao-Id";
+    public static final String NICKNAME_HEADER = "X-User-Nickname";
+    public static final String PROVIDER_HEADER = "X-User-Provider";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtVerifier jwtVerifier;
+    private final RevocationList revocationList;
+    private final List<String> protectedPaths;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public JwtAuthenticationFilter(JwtVerifier jwtVerifier, RevocationList revocationList,
+            JwtProperties jwtProperties) {
+        this.jwtVerifier = jwtVerifier;
+        this.revocationList = revocationList;
+        this.protectedPaths = List.copyOf(jwtProperties.getProtectedPaths());
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        boolean required = isProtected(request.getPath().value());
+
+        String token = resolveToken(request);
+        if (token == null) {
+            return unverified(exchange, chain, required);
+        }
+
+        return verify(token)
+                .map(verified -> authenticated(exchange, chain, verified))
+                .switchIfEmpty(Mono.fromSupplier(() -> unverified(exchange, chain, required)))
+                .flatMap(result -> result);
+    }
+
+    // 검증 실패: 보호 경로면 401, 아니면 위조 가능한 사용자 헤더만 제거하고 통과
+    private Mono<Void> unverified(ServerWebExchange exchange, GatewayFilterChain chain, boolean required) {
+        if (required) {
+            exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+            return exchange.getResponse().setComplete();
+        }
+        // 외부에서 위조한 사용자 헤더는 항상 제거
+        return chain.filter(exchange.mutate()
+                .request(exchange.getRequest().mutate().headers(this::removeIdentityHeaders).build())
+                .build());
+    }
+
+    private Mono<Void> authenticated(ServerWebExchange exchange, GatewayFilterChain chain, VerifiedToken verified) {
+        exchange.getAttributes().put(VERIFIED_TOKEN_ATTR, verified);
+        ServerHttpRequest mutated = exchange.getRequest().mutate()
+                .headers(headers -> {
+                    removeIdentityHeaders(headers);
+                    headers.set(USER_ID_HEADER, verified.userId());
+                    if (verified.kakaoId() != null) {
+                        headers.set(KAKAO_ID_HEADER, verified.kakaoId().toString());
+                    }
+                    if (verified.nickname() != null) {
+                        // 한글 닉네임은 헤더에 그대로 실을 수 없으므로 UTF-8 URL 인코딩
+                        headers.set(NICKNAME_HEADER, URLEncoder.encode(verified.nickname(), StandardCharsets.UTF_8));
+                    }
+                    if (verified.provider() != null) {
+                        headers.set(PROVIDER_HEADER, verified.provider());
+                    }
+                })
+                .build();
+        return chain.filter(exchange.mutate().request(mutated).build());
+    }
+
+    @Override
+    public int getOrder() {
+        // 라우팅 관련 필터보다 먼저 실행
+        return Ordered.HIGHEST_PRECEDENCE + 100;
+    }
+
+    // 서명/만료 검증 후 폐기 목록 확인 (모르는 kid면 JWKS 갱신 후 재검증)
+    private Mono<VerifiedToken> verify(String token) {
+        return jwtVerifier.verifyOrRefresh(token)
+                .filter(verified -> !revocationList.isRevoked(verified.tokenId()));
+    }
+
+    private boolean isProtected(String path) {
+        for (String pattern : protectedPaths) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String resolveToken(ServerHttpRequest request) {
+        String authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            return null;
+        }
+        String token = authorization.substring(BEARER_PREFIX.length()).trim();
+        return token.isEmpty() ? null : token;
+    }
+
+    private void removeIdentityHeaders(HttpHeaders headers) {
+        headers.remove(USER_ID_HEADER);
+        headers.remove(KAKAO_ID_HEADER);
+        headers.remove(NICKNAME_HEADER);
+        headers.remove(PROVIDER_HEADER);
+    }
+}
@@ -0,0 +1,103 @@
+package store.kanggyoenggu.api.jwt;
+
+import java.security.Key;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import reactor.core.publisher.Mono;
+
+// Auth Service JWKS 공개키 캐시 (kid → Key)
+// 기동 시 미리 받아두고 이후에는 요청 경로를 막지 않도록 백그라운드로 갱신
+// - refreshInterval이 지나면 기존 키로 응답하면서 백그라운드로 갱신
+// - 모르는 kid가 오면 즉시 갱신 (키 교체 대응), 갱신 시도는 minRefreshInterval 간격으로 제한
+// - 동시에 여러 요청이 갱신을 요구해도 JWKS 호출은 한 번만 수행
+class JwksKeyCache {
+
+    private final WebClient webClient;
+    private final String jwksUri;
+    private final Duration refreshInterval;
+    private final Duration minRefreshInterval;
+
+    private volatile Map<String, Key> keys = Map.of();
+    private volatile long refreshedAt;
+    private volatile long lastAttemptAt;
+    private final AtomicReference<Mono<Void>> inflightRefresh = new AtomicReference<>();
+
+    JwksKeyCache(WebClient webClient, String jwksUri, Duration refreshInterval, Duration minRefreshInterval) {
+        this.webClient = webClient;
+        this.jwksUri = jwksUri;
+        this.refreshInterval = refreshInterval;
+        this.minRefreshInterval = minRefreshInterval;
+    }
+
+    // 기동 시 미리 받아두기 (실패하면 첫 조회 때 다시 시도)
+    void preload() {
+        refresh().subscribe(null, e -> { });
+    }
+
+    // 캐시된 키 조회 (없으면 null), 갱신 주기가 지났으면 백그라운드 갱신 시작
+    Key get(String kid) {
+        long now = System.currentTimeMillis();
+        if (now - refreshedAt > refreshInterval.toMillis() && now - lastAttemptAt > minRefreshInterval.toMillis()) {
+            refresh().subscribe(null, e -> { });
+        }
+        return kid != null ? keys.get(kid) : null;
+    }
+
+    // 모르는 kid일 때 호출: 최소 간격이 지났으면 갱신 후 완료
+    Mono<Void> refreshForUnknownKey() {
+        Mono<Void> current = inflightRefresh.get();
+        if (current != null) {
+            return current;
+        }
+        if (System.currentTimeMillis() - lastAttemptAt < minRefreshInterval.toMillis()) {
+            return Mono.empty();
+        }
+        return refresh();
+    }
+
+    private Mono<Void> refresh() {
+        Mono<Void> current = inflightRefresh.get();
+        if (current != null) {
+            return current;
+        }
+
+        Mono<Void> refresh = Mono.defer(() -> {
+                    lastAttemptAt = System.currentTimeMillis();
+                    return webClient.get()
+                            .uri(jwksUri)
+                            .retrieve()
+                            .bodyToMono(String.class);
+                })
+                .doOnNext(this::replaceKeys)
+                .then()
+                .doFinally(signal -> inflightRefresh.set(null))
+                .cache();
+
+        if (inflightRefresh.compareAndSet(null, refresh)) {
+            return refresh;
+        }
+        Mono<Void> other = inflightRefresh.get();
+        return other != null ? other : Mono.empty();
+    }
+
+    private void replaceKeys(String json) {
+        JwkSet jwkSet = Jwks.setParser().ignoreUnsupported(true).build().parse(json);
+
+        Map<String, Key> loaded = new HashMap<>();
+        for (Jwk<?> jwk : jwkSet.getKeys()) {
+            if (jwk.getId() != null) {
+                loaded.put(jwk.getId(), jwk.toKey());
+            }
+        }
+        this.keys = Map.copyOf(loaded);
+        this.refreshedAt = System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,93 @@
+package store.kanggyoenggu.api.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+// 서명 검증 전에 사용하는 가벼운 JWT 유틸
+// 전체 JSON 파싱/HMAC 없이 exp 확인과 캐시 키 계산만 수행
+final class JwtPayloads {
+
+    static final long NO_EXPIRATION = -1L;
+
+    private static final byte[] EXP_FIELD = "\"exp\"".getBytes(StandardCharsets.US_ASCII);
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    });
+
+    private JwtPayloads() {
+    }
+
+    // payload 세그먼트에서 exp(초)를 읽음, 형식이 맞지 않으면 NO_EXPIRATION
+    static long peekExpiration(String token) {
+        int first = token.indexOf('.');
+        int second = first < 0 ? -1 : token.indexOf('.', first + 1);
+        if (second < 0) {
+            return NO_EXPIRATION;
+        }
+
+        byte[] payload;
+        try {
+            payload = Base64.getUrlDecoder().decode(token.substring(first + 1, second));
+        } catch (IllegalArgumentException e) {
+            return NO_EXPIRATION;
+        }
+
+        int index = indexOf(payload, EXP_FIELD);
+        if (index < 0) {
+            return NO_EXPIRATION;
+        }
+
+        int i = index + EXP_FIELD.length;
+        while (i < payload.length && (payload[i] == ' ' || payload[i] == ':')) {
+            i++;
+        }
+
+        long value = 0;
+        int digits = 0;
+        while (i < payload.length && payload[i] >= '0' && payload[i] <= '9' && digits < 18) {
+            value = value * 10 + (payload[i] - '0');
+            i++;
+            digits++;
+        }
+        return digits == 0 ? NO_EXPIRATION : value;
+    }
+
+    // 토큰 전체의 SHA-256 다이제스트 (앞 128비트만 캐시 키로 사용)
+    static TokenDigest digest(String token) {
+        MessageDigest md = SHA256.get();
+        byte[] hash = md.digest(token.getBytes(StandardCharsets.US_ASCII));
+        return new TokenDigest(toLong(hash, 0), toLong(hash, 8));
+    }
+
+    private static long toLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = offset; i < offset + 8; i++) {
+            value = (value << 8) | (bytes[i] & 0xFF);
+        }
+        return value;
+    }
+
+    private static int indexOf(byte[] source, byte[] target) {
+        outer:
+        for (int i = 0; i <= source.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (source[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    // 검증 캐시 키 (토큰 원문 대신 다이제스트만 보관)
+    record TokenDigest(long high, long low) {
+    }
+}
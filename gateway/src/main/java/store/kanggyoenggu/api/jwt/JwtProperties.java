@@ -0,0 +1,40 @@
+package store.kanggyoenggu.api.jwt;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+// Gateway JWT 검증 설정 Properties
+@Configuration
+@ConfigurationProperties(prefix = "jwt")
+@Getter
+@Setter
+public class JwtProperties {
+
+    // JWT Secret Key (Auth Service와 동일, HS256 토큰 검증용)
+    private String secret;
+
+    // 교체 직전 Secret Key (Auth Service jwt.previous-secret과 동일, 교체 전에 발급된 HS256 토큰 검증용, 선택)
+    private String previousSecret;
+
+    // Auth Service JWKS 주소 (EdDSA/ES256 토큰 검증용, 공개키를 kid별로 캐시)
+    private String jwksUri;
+
+    // JWKS 갱신 주기 (백그라운드)
+    private Duration jwksRefreshInterval = Duration.ofMinutes(5);
+
+    // 모르는 kid로 인한 JWKS 갱신 최소 간격
+    private Duration jwksMinRefreshInterval = Duration.ofSeconds(30);
+
+    // 검증 완료 토큰 캐시 최대 개수
+    private long verifiedCacheSize = 10000;
+
+    // JWT가 반드시 필요한 경로 (Ant 패턴)
+    private List<String> protectedPaths = new ArrayList<>(List.of("/auth/*/user"));
+}
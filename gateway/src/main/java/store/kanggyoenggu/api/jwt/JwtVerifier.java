@@ -0,0 +1,244 @@
+package store.kanggyoenggu.api.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import reactor.core.publisher.Mono;
+
+// Gateway JWT 검증기
+// - 서명 키와 파서는 기동 시 한 번만 생성 (JwtParser는 thread-safe)
+// - HS256 토큰은 공유 시크릿(jwt.secret), EdDSA/ES256 토큰은 헤더 kid로 JWKS 공개키 캐시(jwt.jwks-uri)에서 찾아 검증
+// - HS256 서명이 맞지 않으면 이전 시크릿(jwt.previous-secret)으로 한 번 더 검증 (시크릿 교체 중 기존 토큰 허용)
+// - 검증 완료 토큰은 다이제스트 기준으로 캐시하고, 각 토큰의 exp 시각에 만료
+// - 같은 세션의 반복 요청은 서명 검증/JSON 파싱 없이 캐시에서 바로 처리
+// - 클레임은 기존 형태(kakaoId/nickname)와 COMPACT 프로필(sub/p/n) 모두 허용 (전환 기간 대응)
+@Component
+public class JwtVerifier {
+
+    // COMPACT 프로필 클레임 이름 (Auth Service JwtService와 동일)
+    private static final String PROVIDER_CLAIM = "p";
+    private static final String NICKNAME_CLAIM = "n";
+
+    private final SecretKey hmacKey;
+    private final JwksKeyCache jwksKeys;
+    private final JwtParser parser;
+    private final JwtParser previousSecretParser;
+    private final Cache<JwtPayloads.TokenDigest, VerifiedToken> verifiedTokens;
+
+    public JwtVerifier(JwtProperties jwtProperties, WebClient.Builder webClientBuilder) {
+        boolean hasSecret = jwtProperties.getSecret() != null && !jwtProperties.getSecret().isBlank();
+        boolean hasJwks = jwtProperties.getJwksUri() != null && !jwtProperties.getJwksUri().isBlank();
+        if (!hasSecret && !hasJwks) {
+            throw new IllegalStateException("jwt.secret 또는 jwt.jwks-uri가 설정되지 않았습니다.");
+        }
+
+        this.hmacKey = hasSecret
+                ? Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8))
+                : null;
+        this.jwksKeys = hasJwks
+                ? new JwksKeyCache(webClientBuilder.build(), jwtProperties.getJwksUri(),
+                        jwtProperties.getJwksRefreshInterval(), jwtProperties.getJwksMinRefreshInterval())
+                : null;
+        if (jwksKeys != null) {
+            jwksKeys.preload();
+        }
+
+        this.parser = Jwts.parser().keyLocator(new KeyResolver()).build();
+        this.previousSecretParser = hasSecret && !isBlank(jwtProperties.getPreviousSecret())
+                ? Jwts.parser()
+                        .verifyWith(Keys.hmacShaKeyFor(jwtProperties.getPreviousSecret().getBytes(StandardCharsets.UTF_8)))
+                        .build()
+                : null;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getVerifiedCacheSize())
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+    }
+
+    // 토큰 검증, 유효하지 않으면 null 반환 (모르는 kid도 null, JWKS 갱신은 백그라운드)
+    public VerifiedToken verify(String token) {
+        try {
+            return verifyOrThrowUnknownKey(token);
+        } catch (UnknownKeyIdException e) {
+            return null;
+        }
+    }
+
+    // 토큰 검증, 모르는 kid면 JWKS를 다시 받아 한 번 더 검증 (키 교체 직후 대응)
+    public Mono<VerifiedToken> verifyOrRefresh(String token) {
+        try {
+            return Mono.justOrEmpty(verifyOrThrowUnknownKey(token));
+        } catch (UnknownKeyIdException e) {
+            return jwksKeys.refreshForUnknownKey()
+                    .onErrorResume(error -> Mono.empty())
+                    .then(Mono.fromSupplier(() -> verify(token)));
+        }
+    }
+
+    private VerifiedToken verifyOrThrowUnknownKey(String token) {
+        long now = System.currentTimeMillis();
+
+        JwtPayloads.TokenDigest digest = JwtPayloads.digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            return cached.isExpired(now) ? null : cached;
+        }
+
+        // 만료된 토큰은 서명 검증 전에 거절
+        long exp = JwtPayloads.peekExpiration(token);
+        if (exp != JwtPayloads.NO_EXPIRATION && exp * 1000 <= now) {
+            return null;
+        }
+
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (SignatureException e) {
+            claims = parseWithPreviousSecret(token);
+            if (claims == null) {
+                return null;
+            }
+        } catch (UnknownKeyIdException e) {
+            throw e;
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+
+        VerifiedToken verified = toVerifiedToken(claims);
+        if (verified.expiresAt() != Long.MAX_VALUE) {
+            verifiedTokens.put(digest, verified);
+        }
+        return verified;
+    }
+
+    // 검증 완료 토큰 캐시 항목 수
+    long cachedTokens() {
+        verifiedTokens.cleanUp();
+        return verifiedTokens.estimatedSize();
+    }
+
+    // 시크릿 교체 전에 발급된 HS256 토큰 (이전 시크릿이 없거나 서명이 맞지 않으면 null)
+    private Claims parseWithPreviousSecret(String token) {
+        if (previousSecretParser == null) {
+            return null;
+        }
+        try {
+            return previousSecretParser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private VerifiedToken toVerifiedToken(Claims claims) {
+        long expiresAt = claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE;
+
+        String providerCode = claims.get(PROVIDER_CLAIM, String.class);
+        if (providerCode == null) {
+            // 기존 형태: 제공자와 관계없이 kakaoId 클레임에 사용자 ID
+            Object kakaoIdClaim = claims.get("kakaoId");
+            Long kakaoId = kakaoIdClaim instanceof Number number ? number.longValue() : null;
+            String nickname = claims.get("nickname", String.class);
+            return new VerifiedToken(claims.getSubject(), kakaoId, nickname, expiresAt, claims.getId(), null);
+        }
+
+        // COMPACT 프로필: 사용자 ID는 sub, 카카오 ID는 카카오 사용자에게만 있음
+        String provider = providerName(providerCode);
+        Long kakaoId = "kakao".equals(provider) ? parseLongOrNull(claims.getSubject()) : null;
+        String nickname = claims.get(NICKNAME_CLAIM, String.class);
+        return new VerifiedToken(claims.getSubject(), kakaoId, nickname, expiresAt, claims.getId(), provider);
+    }
+
+    // COMPACT 프로필 제공자 코드 → 이름 (Auth Service JwtService.providerCode의 역)
+    private static String providerName(String code) {
+        return switch (code) {
+            case "k" -> "kakao";
+            case "n" -> "naver";
+            case "g" -> "google";
+            default -> code;
+        };
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static Long parseLongOrNull(String value) {
+        try {
+            return value != null ? Long.parseLong(value) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // 헤더 alg/kid로 검증 키 선택 (HS* → 공유 시크릿, 그 외 → JWKS 공개키)
+    private final class KeyResolver extends LocatorAdapter<Key> {
+
+        @Override
+        protected Key locate(JwsHeader header) {
+            String algorithm = header.getAlgorithm();
+            if (algorithm != null && algorithm.startsWith("HS")) {
+                if (hmacKey == null) {
+                    throw new UnsupportedJwtException("HMAC 토큰 검증 키(jwt.secret)가 없습니다.");
+                }
+                return hmacKey;
+            }
+            if (jwksKeys == null) {
+                throw new UnsupportedJwtException("공개키 토큰 검증 설정(jwt.jwks-uri)이 없습니다.");
+            }
+            Key key = jwksKeys.get(header.getKeyId());
+            if (key == null) {
+                throw new UnknownKeyIdException(header.getKeyId());
+            }
+            return key;
+        }
+    }
+
+    // JWKS 캐시에 없는 kid
+    private static final class UnknownKeyIdException extends JwtException {
+
+        UnknownKeyIdException(String keyId) {
+            super("알 수 없는 kid: " + keyId);
+        }
+    }
+
+    // 캐시 항목을 토큰 자체의 exp 시각에 만료시키는 Expiry
+    private static final class UntilTokenExpiry implements Expiry<JwtPayloads.TokenDigest, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(JwtPayloads.TokenDigest key, VerifiedToken value, long currentTime) {
+            long remainingMillis = value.expiresAt() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(JwtPayloads.TokenDigest key, VerifiedToken value, long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(JwtPayloads.TokenDigest key, VerifiedToken value, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
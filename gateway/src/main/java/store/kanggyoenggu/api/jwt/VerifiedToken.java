@@ -0,0 +1,12 @@
+package store.kanggyoenggu.api.jwt;
+
+// 서명 검증이 끝난 JWT에서 추출한 사용자 정보
+// expiresAt: 토큰 만료 시각 (epoch millis), tokenId: jti (로그아웃 시 폐기 목록 키, 이전 토큰은 null)
+// provider: 로그인 제공자 (kakao/naver/google, COMPACT 프로필 토큰에만 있고 기존 토큰은 null)
+public record VerifiedToken(String userId, Long kakaoId, String nickname, long expiresAt, String tokenId,
+        String provider) {
+
+    public boolean isExpired(long nowMillis) {
+        return expiresAt <= nowMillis;
+    }
+}
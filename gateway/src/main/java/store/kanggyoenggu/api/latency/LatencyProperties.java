@@ -0,0 +1,30 @@
+package store.kanggyoenggu.api.latency;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+// 라우트별 지연 히스토그램 설정 Properties (/actuator/latency)
+@Configuration
+@ConfigurationProperties(prefix = "latency")
+@Getter
+@Setter
+public class LatencyProperties {
+
+    // 히스토그램 교체 주기 (조회 구간의 최소 단위)
+    private Duration interval = Duration.ofSeconds(10);
+
+    // 조회 구간 (interval의 배수, 가장 긴 구간만큼 과거 히스토그램 보관)
+    private List<Duration> windows = List.of(Duration.ofMinutes(1), Duration.ofMinutes(5));
+
+    // 기록 가능한 최대 지연 (초과 값은 이 값으로 기록)
+    private Duration highestTrackable = Duration.ofSeconds(60);
+
+    // 유효 자릿수 (2면 오차 1% 이내)
+    private int significantDigits = 2;
+}
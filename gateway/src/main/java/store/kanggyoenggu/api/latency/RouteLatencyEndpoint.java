@@ -0,0 +1,38 @@
+package store.kanggyoenggu.api.latency;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+// 라우트별 지연 분포 조회 엔드포인트
+// GET /actuator/latency            전체 라우트
+// GET /actuator/latency/{routeId}  라우트 하나 (기록이 없으면 404)
+// 구간(1m, 5m 등)별 total/upstream/overhead의 count, p50, p90, p99, p999, max (ms)
+@Component
+@Endpoint(id = "latency")
+public class RouteLatencyEndpoint {
+
+    private final RouteLatencyRecorder recorder;
+
+    public RouteLatencyEndpoint(RouteLatencyRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @ReadOperation
+    public Map<String, Object> latency() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("unit", "ms");
+        result.put("interval", RouteLatencyRecorder.format(recorder.getInterval()));
+        result.put("routes", recorder.snapshot());
+        return result;
+    }
+
+    @ReadOperation
+    public Map<String, Object> route(@Selector String routeId) {
+        return recorder.snapshot(routeId);
+    }
+}
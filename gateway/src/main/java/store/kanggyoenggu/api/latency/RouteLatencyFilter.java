@@ -0,0 +1,47 @@
+package store.kanggyoenggu.api.latency;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+// 라우트별 전체 처리 시간 기록 필터
+// 가장 먼저 실행되어 JWT 검증부터 응답 전송 완료까지 측정하고,
+// UpstreamTimingFilter가 남긴 upstream 시간과 함께 RouteLatencyRecorder에 기록
+// (클라이언트가 연결을 끊은 요청은 기록하지 않음)
+@Component
+public class RouteLatencyFilter implements GlobalFilter, Ordered {
+
+    private final RouteLatencyRecorder recorder;
+
+    public RouteLatencyFilter(RouteLatencyRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+                    if (route == null || signal == SignalType.CANCEL) {
+                        return;
+                    }
+                    Long upstreamNanos = exchange.getAttribute(UpstreamTimingFilter.UPSTREAM_NANOS_ATTR);
+                    recorder.record(route.getId(), System.nanoTime() - start,
+                            upstreamNanos != null ? upstreamNanos : -1);
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,153 @@
+package store.kanggyoenggu.api.latency;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PostConstruct;
+
+import org.HdrHistogram.Histogram;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+
+// 라우트별 지연 히스토그램 저장소
+// - total: Gateway가 요청을 받은 뒤 응답 전송 완료까지
+// - upstream: upstream으로 요청을 보낸 뒤 응답 헤더를 받을 때까지
+// - overhead: total - upstream (Gateway 필터, 응답 본문 전달 포함)
+// upstream을 호출하지 않은 요청(캐시 HIT, 거절 등)은 total과 overhead만 기록
+// 값은 마이크로초로 기록하고 조회 시 밀리초로 변환
+@Component
+public class RouteLatencyRecorder implements DisposableBean {
+
+    private final ConcurrentHashMap<String, RouteHistograms> routes = new ConcurrentHashMap<>();
+    private final Duration interval;
+    private final List<Duration> windows;
+    private final long highestTrackableMicros;
+    private final int significantDigits;
+    private final int slots;
+    private Disposable rotator;
+
+    public RouteLatencyRecorder(LatencyProperties properties) {
+        this.interval = properties.getInterval();
+        this.windows = properties.getWindows();
+        this.highestTrackableMicros = properties.getHighestTrackable().toNanos() / 1_000;
+        this.significantDigits = properties.getSignificantDigits();
+        this.slots = windows.stream()
+                .mapToInt(this::slotsFor)
+                .max()
+                .orElse(1);
+    }
+
+    // 구간 교체는 생성이 끝난 뒤 시작 (생성자에서 this를 스케줄러에 넘기지 않음)
+    @PostConstruct
+    void start() {
+        long intervalMillis = interval.toMillis();
+        rotator = Schedulers.parallel().schedulePeriodically(
+                this::rotate, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // upstreamNanos < 0 이면 upstream 호출 없음
+    public void record(String routeId, long totalNanos, long upstreamNanos) {
+        RouteHistograms histograms = routes.get(routeId);
+        if (histograms == null) {
+            histograms = routes.computeIfAbsent(routeId, id -> new RouteHistograms(
+                    newHistogram(), newHistogram(), newHistogram()));
+        }
+        histograms.total().record(totalNanos / 1_000);
+        if (upstreamNanos >= 0) {
+            histograms.upstream().record(upstreamNanos / 1_000);
+            histograms.overhead().record(Math.max(0, totalNanos - upstreamNanos) / 1_000);
+        } else {
+            histograms.overhead().record(totalNanos / 1_000);
+        }
+    }
+
+    // 전체 라우트 요약 (라우트 ID 순)
+    public Map<String, Object> snapshot() {
+        Map<String, Object> result = new TreeMap<>();
+        routes.forEach((routeId, histograms) -> result.put(routeId, summarize(histograms)));
+        return result;
+    }
+
+    // 라우트 하나의 요약, 기록이 없으면 null
+    public Map<String, Object> snapshot(String routeId) {
+        RouteHistograms histograms = routes.get(routeId);
+        return histograms != null ? summarize(histograms) : null;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    void rotate() {
+        routes.values().forEach(histograms -> {
+            histograms.total().rotate();
+            histograms.upstream().rotate();
+            histograms.overhead().rotate();
+        });
+    }
+
+    @Override
+    public void destroy() {
+        if (rotator != null) {
+            rotator.dispose();
+        }
+    }
+
+    private Map<String, Object> summarize(RouteHistograms histograms) {
+        Map<String, Object> byWindow = new LinkedHashMap<>();
+        for (Duration window : windows) {
+            int windowSlots = slotsFor(window);
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("total", percentiles(histograms.total().merged(windowSlots)));
+            summary.put("upstream", percentiles(histograms.upstream().merged(windowSlots)));
+            summary.put("overhead", percentiles(histograms.overhead().merged(windowSlots)));
+            byWindow.put(format(window), summary);
+        }
+        return byWindow;
+    }
+
+    private static Map<String, Object> percentiles(Histogram histogram) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("count", histogram.getTotalCount());
+        result.put("p50", millis(histogram.getValueAtPercentile(50)));
+        result.put("p90", millis(histogram.getValueAtPercentile(90)));
+        result.put("p99", millis(histogram.getValueAtPercentile(99)));
+        result.put("p999", millis(histogram.getValueAtPercentile(99.9)));
+        result.put("max", millis(histogram.getMaxValue()));
+        return result;
+    }
+
+    // 구간 표기 (1m, 10s, 500ms)
+    static String format(Duration duration) {
+        if (duration.toMillis() % 60_000 == 0) {
+            return duration.toMinutes() + "m";
+        }
+        if (duration.toMillis() % 1_000 == 0) {
+            return duration.toSeconds() + "s";
+        }
+        return duration.toMillis() + "ms";
+    }
+
+    private static double millis(long micros) {
+        return micros / 1_000.0;
+    }
+
+    private int slotsFor(Duration window) {
+        return (int) Math.max(1, window.toMillis() / interval.toMillis());
+    }
+
+    private WindowedHistogram newHistogram() {
+        return new WindowedHistogram(highestTrackableMicros, significantDigits, slots);
+    }
+
+    private record RouteHistograms(WindowedHistogram total, WindowedHistogram upstream, WindowedHistogram overhead) {
+    }
+}
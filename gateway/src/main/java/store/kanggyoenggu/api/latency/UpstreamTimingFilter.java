@@ -0,0 +1,36 @@
+package store.kanggyoenggu.api.latency;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyRoutingFilter;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+// upstream 호출 시간 측정 필터
+// NettyRoutingFilter 바로 앞에서 실행되어, upstream으로 요청을 보낸 뒤 응답 헤더를 받을 때까지의 시간을
+// exchange 속성(UPSTREAM_NANOS_ATTR)에 남김 (응답 본문 전달 시간은 overhead에 포함)
+@Component
+public class UpstreamTimingFilter implements GlobalFilter, Ordered {
+
+    public static final String UPSTREAM_NANOS_ATTR = UpstreamTimingFilter.class.getName() + ".upstreamNanos";
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    if (signal != SignalType.CANCEL) {
+                        exchange.getAttributes().put(UPSTREAM_NANOS_ATTR, System.nanoTime() - start);
+                    }
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        return NettyRoutingFilter.ORDER - 1;
+    }
+}
@@ -0,0 +1,46 @@
+package store.kanggyoenggu.api.latency;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+// 구간별로 교체되는 HDR 히스토그램
+// 기록은 Recorder(wait-free)에만 하고, rotate()가 주기적으로 구간 히스토그램을 꺼내 링 버퍼에 보관
+// 조회는 최근 n개 구간을 합쳐서 계산하므로 기록 경로에는 락이 없음
+final class WindowedHistogram {
+
+    private final Recorder recorder;
+    private final long highestTrackable;
+    private final int significantDigits;
+    private final Histogram[] intervals;
+    private int next;
+
+    WindowedHistogram(long highestTrackable, int significantDigits, int slots) {
+        this.recorder = new Recorder(highestTrackable, significantDigits);
+        this.highestTrackable = highestTrackable;
+        this.significantDigits = significantDigits;
+        this.intervals = new Histogram[slots];
+    }
+
+    void record(long value) {
+        recorder.recordValue(Math.clamp(value, 0, highestTrackable));
+    }
+
+    // 현재 구간을 닫고 링 버퍼에 추가 (가장 오래된 구간의 히스토그램은 재사용)
+    synchronized void rotate() {
+        Histogram oldest = intervals[next];
+        intervals[next] = recorder.getIntervalHistogram(oldest);
+        next = (next + 1) % intervals.length;
+    }
+
+    // 최근 slots개 구간을 합친 히스토그램
+    synchronized Histogram merged(int slots) {
+        Histogram merged = new Histogram(highestTrackable, significantDigits);
+        for (int i = 1; i <= Math.min(slots, intervals.length); i++) {
+            Histogram interval = intervals[Math.floorMod(next - i, intervals.length)];
+            if (interval != null) {
+                merged.add(interval);
+            }
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,158 @@
+package store.kanggyoenggu.api.ratelimit;
+
+import static org.springframework.cloud.gateway.support.GatewayToStringStyler.filterToStringCreator;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.HasRouteId;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import reactor.core.publisher.Mono;
+import store.kanggyoenggu.api.filter.JwtAuthenticationFilter;
+import store.kanggyoenggu.api.jwt.VerifiedToken;
+
+// Redis 없이 Gateway 메모리에서 동작하는 요청 제한 필터 (LocalRateLimiter)
+// 키: JWT 검증된 사용자 ID, 없으면 클라이언트 IP (key=ip면 항상 IP)
+// 한도 초과 시 429 + Retry-After, 거부 횟수는 gateway.ratelimit.rejected로 집계
+// 필터 목록 순서와 관계없이 LocalUserInfo/ResponseCache/SingleFlight보다 먼저 실행 (Gateway가 직접 응답하는 요청도 제한)
+//
+// 사용 예 (application.yaml):
+//   filters:
+//     - name: LocalRateLimiter
+//       args:
+//         replenishRate: 20   # 초당 토큰 보충 수
+//         burstCapacity: 40   # 버킷 크기 (순간 허용량)
+//         key: user-or-ip     # user-or-ip | ip
+@Component
+public class LocalRateLimiterGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<LocalRateLimiterGatewayFilterFactory.Config> {
+
+    static final String REJECTED_COUNTER = "gateway.ratelimit.rejected";
+
+    private final TokenBuckets tokenBuckets;
+    private final MeterRegistry meterRegistry;
+
+    public LocalRateLimiterGatewayFilterFactory(TokenBuckets tokenBuckets, MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.tokenBuckets = tokenBuckets;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("gateway.ratelimit.buckets", tokenBuckets, TokenBuckets::size)
+                .description("요청 제한 버킷 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("gateway.ratelimit.overflow", tokenBuckets, TokenBuckets::overflowCount)
+                .description("버킷 수 상한으로 라우트 공용 버킷에서 판정한 요청 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("replenishRate", "burstCapacity", "key");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        if (config.getReplenishRate() <= 0 || config.getBurstCapacity() < 1) {
+            throw new IllegalArgumentException(
+                    "LocalRateLimiter: replenishRate > 0, burstCapacity >= 1 이어야 합니다. route=" + config.getRouteId());
+        }
+
+        String routeId = config.getRouteId();
+        KeyType keyType = config.getKey();
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / config.getReplenishRate());
+        long burstNanos = intervalNanos * config.getBurstCapacity();
+
+        Counter userRejected = rejectedCounter(routeId, "user");
+        Counter ipRejected = rejectedCounter(routeId, "ip");
+
+        GatewayFilter filter = new GatewayFilter() {
+            @Override
+            public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+                VerifiedToken verified = keyType == KeyType.USER_OR_IP
+                        ? exchange.getAttribute(JwtAuthenticationFilter.VERIFIED_TOKEN_ATTR)
+                        : null;
+                String key = verified != null ? "u:" + verified.userId() : "ip:" + clientIp(exchange);
+
+                long waitNanos = tokenBuckets.tryAcquire(routeId, key, intervalNanos, burstNanos, System.nanoTime());
+                if (waitNanos == 0) {
+                    return chain.filter(exchange);
+                }
+
+                (verified != null ? userRejected : ipRejected).increment();
+
+                ServerHttpResponse response = exchange.getResponse();
+                response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+                response.getHeaders().set(HttpHeaders.RETRY_AFTER,
+                        Long.toString(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L))));
+                return response.setComplete();
+            }
+
+            @Override
+            public String toString() {
+                return filterToStringCreator(LocalRateLimiterGatewayFilterFactory.this)
+                        .append("replenishRate", config.getReplenishRate())
+                        .append("burstCapacity", config.getBurstCapacity())
+                        .append("key", keyType)
+                        .toString();
+            }
+        };
+        // AdaptiveConcurrency(WRITE_RESPONSE_FILTER_ORDER - 4)보다 먼저: 제한에 걸린 요청은 동시 처리 한도를 차지하지 않음
+        return new OrderedGatewayFilter(filter, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 5);
+    }
+
+    private Counter rejectedCounter(String routeId, String keyType) {
+        return Counter.builder(REJECTED_COUNTER)
+                .description("요청 제한으로 거부된 요청 수")
+                .tag("route", routeId != null ? routeId : "unknown")
+                .tag("key", keyType)
+                .register(meterRegistry);
+    }
+
+    private static String clientIp(ServerWebExchange exchange) {
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        if (remoteAddress == null || remoteAddress.getAddress() == null) {
+            return "unknown";
+        }
+        return remoteAddress.getAddress().getHostAddress();
+    }
+
+    public enum KeyType {
+        // JWT 검증된 사용자 ID, 없으면 IP
+        USER_OR_IP,
+        // 항상 클라이언트 IP
+        IP
+    }
+
+    @Getter
+    @Setter
+    public static class Config implements HasRouteId {
+
+        // 초당 토큰 보충 수
+        private double replenishRate;
+
+        // 버킷 크기 (순간 허용량)
+        private int burstCapacity;
+
+        // 제한 키
+        private KeyType key = KeyType.USER_OR_IP;
+
+        private String routeId;
+    }
+}
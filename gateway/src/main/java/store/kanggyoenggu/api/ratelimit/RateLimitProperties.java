@@ -0,0 +1,28 @@
+package store.kanggyoenggu.api.ratelimit;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+// Gateway 로컬 요청 제한 공통 설정 Properties
+// (라우트별 한도는 application.yaml의 LocalRateLimiter 필터 args로 지정)
+@Configuration
+@ConfigurationProperties(prefix = "ratelimit")
+@Getter
+@Setter
+public class RateLimitProperties {
+
+    // 버킷 최대 개수 (상한에서 유휴 버킷을 정리해도 자리가 없으면
+    // 새 키는 라우트별 공용 overflow 버킷으로 제한하고 overflow로 집계)
+    private int maxBuckets = 100_000;
+
+    // 가득 찬(유휴) 버킷 정리 주기
+    private Duration sweepInterval = Duration.ofSeconds(30);
+
+    // 상한에 닿았을 때 요청 경로에서 유휴 버킷을 정리하는 최소 간격 (전체를 훑으므로 자주 하지 않음)
+    private Duration minEvictInterval = Duration.ofMillis(100);
+}
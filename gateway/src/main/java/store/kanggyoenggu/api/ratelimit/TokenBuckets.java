@@ -0,0 +1,124 @@
+package store.kanggyoenggu.api.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.annotation.PostConstruct;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+
+// 락 없는 토큰 버킷 저장소 (GCRA: Generic Cell Rate Algorithm)
+// 버킷 하나는 "다음 토큰이 채워지는 이론상 시각(TAT)" long 하나뿐이며 CAS로만 갱신
+// - 요청 허용: newTat = max(tat, now) + interval, newTat - now <= burst * interval 이면 통과
+// - TAT가 현재 시각 이전인 버킷은 가득 찬 상태와 같으므로 주기적으로 제거해 메모리를 제한
+// - 버킷 수가 상한에 닿으면 정리 주기를 기다리지 않고 유휴 버킷을 바로 정리해 새 키 자리를 만듦
+//   (한 번에 몰린 다른 IP들의 버킷은 한 간격만 지나면 유휴 상태가 되므로 새 클라이언트가 계속 막히지 않음)
+// - 정리해도 자리가 없으면(모든 버킷이 사용 중) 새 키는 라우트별 공용 overflow 버킷 하나를 함께 씀
+//   (키가 폭증해도 메모리는 늘지 않고, 추적하지 못한 키들은 합쳐서 키 하나 분량만 허용)
+@Component
+public class TokenBuckets implements DisposableBean {
+
+    private static final long NEVER = Long.MIN_VALUE;
+
+    private final ConcurrentHashMap<BucketKey, Bucket> buckets = new ConcurrentHashMap<>();
+    // 라우트 ID → overflow 버킷 (라우트 수만큼만 생기므로 정리하지 않음)
+    private final ConcurrentHashMap<String, Bucket> overflowBuckets = new ConcurrentHashMap<>();
+    private final int maxBuckets;
+    private final LongAdder overflow = new LongAdder();
+    private final long sweepIntervalMillis;
+    private final long minEvictIntervalNanos;
+    // 마지막으로 요청 경로에서 유휴 버킷을 정리한 시각 (ns)
+    private final AtomicLong lastEvictNanos = new AtomicLong(NEVER);
+    private Disposable sweeper;
+
+    public TokenBuckets(RateLimitProperties properties) {
+        this.maxBuckets = properties.getMaxBuckets();
+        this.sweepIntervalMillis = properties.getSweepInterval().toMillis();
+        this.minEvictIntervalNanos = properties.getMinEvictInterval().toNanos();
+    }
+
+    // 주기 정리는 생성이 끝난 뒤 시작 (생성자에서 this를 스케줄러에 넘기지 않음)
+    @PostConstruct
+    void start() {
+        sweeper = Schedulers.parallel().schedulePeriodically(
+                () -> sweep(System.nanoTime()), sweepIntervalMillis, sweepIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // 허용되면 0, 거부되면 다음 토큰까지 남은 시간(ns)
+    public long tryAcquire(String routeId, String key, long intervalNanos, long burstNanos, long nowNanos) {
+        BucketKey bucketKey = new BucketKey(routeId, key);
+        Bucket bucket = buckets.get(bucketKey);
+        if (bucket == null) {
+            if (buckets.size() >= maxBuckets && !evictIdle(nowNanos)) {
+                // 사용 중인 키만으로 상한이 찬 경우: 메모리를 늘리지 않고 라우트 공용 버킷으로 제한
+                overflow.increment();
+                bucket = overflowBuckets.computeIfAbsent(routeId, k -> new Bucket(nowNanos));
+            } else {
+                bucket = buckets.computeIfAbsent(bucketKey, k -> new Bucket(nowNanos));
+            }
+        }
+        return acquire(bucket, intervalNanos, burstNanos, nowNanos);
+    }
+
+    // 상한에서 유휴 버킷 정리 (minEvictInterval에 한 번만), 자리가 생겼으면 true
+    private boolean evictIdle(long nowNanos) {
+        long last = lastEvictNanos.get();
+        if ((last == NEVER || nowNanos - last >= minEvictIntervalNanos)
+                && lastEvictNanos.compareAndSet(last, nowNanos)) {
+            sweep(nowNanos);
+        }
+        return buckets.size() < maxBuckets;
+    }
+
+    private static long acquire(Bucket bucket, long intervalNanos, long burstNanos, long nowNanos) {
+        while (true) {
+            long tat = bucket.get();
+            long newTat = Math.max(tat, nowNanos) + intervalNanos;
+            long ahead = newTat - nowNanos;
+            if (ahead > burstNanos) {
+                return ahead - burstNanos;
+            }
+            if (bucket.compareAndSet(tat, newTat)) {
+                return 0;
+            }
+        }
+    }
+
+    // 가득 찬 버킷 제거 (제거 직후 같은 키의 요청은 새 버킷을 받으므로 결과는 동일)
+    public void sweep(long nowNanos) {
+        buckets.values().removeIf(bucket -> bucket.get() - nowNanos <= 0);
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    // 버킷 수 상한으로 개별 추적하지 못하고 overflow 버킷으로 판정한 요청 수
+    public long overflowCount() {
+        return overflow.sum();
+    }
+
+    @Override
+    public void destroy() {
+        if (sweeper != null) {
+            sweeper.dispose();
+        }
+    }
+
+    private record BucketKey(String routeId, String key) {
+    }
+
+    // TAT(ns)
+    private static final class Bucket extends AtomicLong {
+
+        Bucket(long tat) {
+            super(tat);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package store.kanggyoenggu.api.response;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+
+import reactor.core.publisher.Mono;
+
+// 메모리에 보관한 upstream 응답 (상태, 헤더, 본문)
+// 응답 캐시 / 동일 요청 병합에서 다른 요청에 그대로 재전송할 때 사용
+public record BufferedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+
+    // 재전송 시 복사하지 않는 헤더 (본문 길이는 다시 계산)
+    private static final Set<String> SKIPPED_HEADERS = Set.of(
+            HttpHeaders.CONTENT_LENGTH.toLowerCase(),
+            HttpHeaders.TRANSFER_ENCODING.toLowerCase(),
+            HttpHeaders.CONNECTION.toLowerCase(),
+            "keep-alive");
+
+    public BufferedResponse {
+        headers = HttpHeaders.readOnlyHttpHeaders(headers);
+    }
+
+    // 대략적인 메모리 크기 (캐시 가중치용)
+    public int weight() {
+        int[] size = {body.length};
+        headers.forEach((name, values) -> {
+            size[0] += name.length();
+            for (String value : values) {
+                size[0] += value.length();
+            }
+        });
+        return size[0];
+    }
+
+    public String firstHeader(String name) {
+        return headers.getFirst(name);
+    }
+
+    // response에 상태/헤더/본문 기록
+    // 이 요청에서 Gateway가 이미 설정한 헤더(CORS 등)는 유지하고, customizer로 마지막에 덮어쓸 수 있음
+    public Mono<Void> writeTo(ServerHttpResponse response, Consumer<HttpHeaders> customizer) {
+        response.setStatusCode(status);
+        HttpHeaders target = response.getHeaders();
+        headers.forEach((name, values) -> {
+            if (!isSkipped(name) && !target.containsKey(name)) {
+                target.put(name, List.copyOf(values));
+            }
+        });
+        target.setContentLength(body.length);
+        customizer.accept(target);
+
+        if (body.length == 0) {
+            return response.setComplete();
+        }
+        DataBuffer buffer = response.bufferFactory().wrap(body);
+        return response.writeWith(Mono.just(buffer));
+    }
+
+    // CORS 헤더는 요청의 Origin마다 Gateway가 다시 붙이므로 다른 요청의 것을 복사하지 않음
+    private static boolean isSkipped(String name) {
+        String lower = name.toLowerCase();
+        return SKIPPED_HEADERS.contains(lower) || lower.startsWith("access-control-");
+    }
+}
@@ -0,0 +1,93 @@
+package store.kanggyoenggu.api.response;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// upstream 응답 본문을 클라이언트로 흘려보내면서 사본을 남기는 데코레이터
+// 버퍼를 붙잡지 않고 지나가는 바이트만 복사하며, maxBytes를 넘거나 스트리밍 응답이면 사본을 포기
+// 필터 체인(chain.filter)이 끝난 뒤 captured()로 결과를 꺼냄
+public class CapturingResponseDecorator extends ServerHttpResponseDecorator {
+
+    private final int maxBytes;
+    private ByteArrayOutputStream copy;
+    private boolean abandoned;
+    private volatile BufferedResponse captured;
+
+    public CapturingResponseDecorator(ServerHttpResponse delegate, int maxBytes) {
+        super(delegate);
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+        long contentLength = getDelegate().getHeaders().getContentLength();
+        if (contentLength > maxBytes) {
+            abandoned = true;
+            return super.writeWith(body);
+        }
+        copy = new ByteArrayOutputStream(contentLength > 0 ? (int) contentLength : 256);
+
+        Flux<? extends DataBuffer> tapped = Flux.from(body)
+                .doOnNext(this::append)
+                .doOnComplete(this::complete);
+        return super.writeWith(tapped);
+    }
+
+    @Override
+    public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+        // 스트리밍 응답은 보관하지 않음
+        abandoned = true;
+        return super.writeAndFlushWith(body);
+    }
+
+    @Override
+    public Mono<Void> setComplete() {
+        // 본문 없는 응답 (writeWith 없이 완료)
+        if (copy == null && !abandoned) {
+            copy = new ByteArrayOutputStream(0);
+            complete();
+        }
+        return super.setComplete();
+    }
+
+    // 완전히 보관된 응답, 없으면 null (크기 초과, 스트리밍, 에러/취소)
+    public BufferedResponse captured() {
+        return captured;
+    }
+
+    private void append(DataBuffer buffer) {
+        if (abandoned) {
+            return;
+        }
+        int length = buffer.readableByteCount();
+        if (copy.size() + length > maxBytes) {
+            abandoned = true;
+            copy = null;
+            return;
+        }
+        byte[] bytes = new byte[length];
+        buffer.toByteBuffer(buffer.readPosition(), ByteBuffer.wrap(bytes), 0, length);
+        copy.writeBytes(bytes);
+    }
+
+    private void complete() {
+        if (abandoned || copy == null) {
+            return;
+        }
+        HttpStatusCode status = getDelegate().getStatusCode();
+        HttpHeaders headers = new HttpHeaders();
+        headers.putAll(getDelegate().getHeaders());
+        captured = new BufferedResponse(status != null ? status : HttpStatusCode.valueOf(200), headers,
+                copy.toByteArray());
+    }
+}
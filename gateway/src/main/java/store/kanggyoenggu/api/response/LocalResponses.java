@@ -0,0 +1,21 @@
+package store.kanggyoenggu.api.response;
+
+import org.springframework.web.server.ServerWebExchange;
+
+// upstream을 호출하지 않고 Gateway가 직접 응답한 요청 표시 (캐시 HIT, 병합 응답 공유, 로컬 사용자 정보)
+// AdaptiveConcurrency는 이런 요청의 처리 시간을 upstream 지연 표본으로 쓰지 않음
+public final class LocalResponses {
+
+    public static final String SERVED_LOCALLY_ATTR = LocalResponses.class.getName() + ".servedLocally";
+
+    private LocalResponses() {
+    }
+
+    public static void markServedLocally(ServerWebExchange exchange) {
+        exchange.getAttributes().put(SERVED_LOCALLY_ATTR, Boolean.TRUE);
+    }
+
+    public static boolean isServedLocally(ServerWebExchange exchange) {
+        return exchange.getAttributes().containsKey(SERVED_LOCALLY_ATTR);
+    }
+}
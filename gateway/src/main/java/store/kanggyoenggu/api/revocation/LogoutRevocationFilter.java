@@ -0,0 +1,62 @@
+package store.kanggyoenggu.api.revocation;
+
+import java.util.List;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.server.ServerWebExchange;
+
+import reactor.core.publisher.Mono;
+import store.kanggyoenggu.api.filter.JwtAuthenticationFilter;
+import store.kanggyoenggu.api.jwt.VerifiedToken;
+
+// 로그아웃 성공 시 요청에 사용된 JWT를 폐기 목록에 추가하는 필터
+// Auth Service가 로그아웃을 2xx로 응답한 경우에만 폐기하며, 이후 같은 토큰은 JwtAuthenticationFilter에서 거절
+@Component
+public class LogoutRevocationFilter implements GlobalFilter, Ordered {
+
+    private final RevocationList revocationList;
+    private final List<String> logoutPaths;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public LogoutRevocationFilter(RevocationList revocationList, RevocationProperties properties) {
+        this.revocationList = revocationList;
+        this.logoutPaths = List.copyOf(properties.getLogoutPaths());
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (exchange.getRequest().getMethod() != HttpMethod.POST || !isLogout(exchange.getRequest().getPath().value())) {
+            return chain.filter(exchange);
+        }
+
+        return chain.filter(exchange)
+                .then(Mono.fromRunnable(() -> {
+                    VerifiedToken verified = exchange.getAttribute(JwtAuthenticationFilter.VERIFIED_TOKEN_ATTR);
+                    HttpStatusCode status = exchange.getResponse().getStatusCode();
+                    if (verified != null && status != null && status.is2xxSuccessful()) {
+                        revocationList.revoke(verified.tokenId(), verified.expiresAt());
+                    }
+                }));
+    }
+
+    @Override
+    public int getOrder() {
+        // JWT 검증 직후 (검증된 토큰 정보가 exchange에 있어야 함)
+        return Ordered.HIGHEST_PRECEDENCE + 101;
+    }
+
+    private boolean isLogout(String path) {
+        for (String pattern : logoutPaths) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,111 @@
+package store.kanggyoenggu.api.revocation;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PostConstruct;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+
+// 로그아웃된 JWT 폐기 목록 (토큰 ID(jti) 기준)
+// - Bloom 필터: 대부분의 요청(폐기되지 않은 토큰)은 비트 몇 개 확인으로 바로 통과
+// - 정확한 집합(jti → exp)은 Bloom 필터가 "있을 수도 있음"이라고 할 때만 조회
+// - exp 순으로 정렬된 집합으로 만료된 항목을 앞에서부터 제거하므로 메모리는 아직 유효한 폐기 토큰 수에 비례
+// Bloom 필터는 삭제가 안 되므로 정리할 때 남은 항목으로 새로 만들어 교체
+@Slf4j
+@Component
+public class RevocationList implements DisposableBean {
+
+    private final ConcurrentHashMap<String, Long> revoked = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Expiring> byExpiry = new ConcurrentSkipListSet<>();
+    private final int expectedTokens;
+    private final double falsePositiveRate;
+    private final long sweepIntervalMillis;
+    private Disposable sweeper;
+
+    private volatile BloomFilter bloomFilter;
+
+    public RevocationList(RevocationProperties properties) {
+        this.expectedTokens = properties.getExpectedTokens();
+        this.falsePositiveRate = properties.getFalsePositiveRate();
+        this.bloomFilter = new BloomFilter(expectedTokens, falsePositiveRate);
+        this.sweepIntervalMillis = properties.getSweepInterval().toMillis();
+    }
+
+    // 주기 정리는 생성이 끝난 뒤 시작 (생성자에서 this를 스케줄러에 넘기지 않음)
+    @PostConstruct
+    void start() {
+        sweeper = Schedulers.parallel().schedulePeriodically(
+                () -> sweep(System.currentTimeMillis()), sweepIntervalMillis, sweepIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    // 토큰 폐기 (expiresAtMillis 이후에는 토큰 자체가 만료되므로 항목도 제거)
+    public void revoke(String tokenId, long expiresAtMillis) {
+        if (tokenId == null || expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        // 정확한 집합을 먼저 채운 뒤 Bloom 필터에 추가 (Bloom 통과 후 집합 조회가 항상 성공하도록)
+        if (revoked.putIfAbsent(tokenId, expiresAtMillis) == null) {
+            byExpiry.add(new Expiring(expiresAtMillis, tokenId));
+        }
+        bloomFilter.put(tokenId);
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+        return revoked.containsKey(tokenId);
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    // 만료된 항목 제거 후 Bloom 필터 재구성
+    public synchronized void sweep(long nowMillis) {
+        int removed = 0;
+        Expiring head;
+        while ((head = byExpiry.pollFirst()) != null) {
+            if (head.expiresAt() > nowMillis) {
+                byExpiry.add(head);
+                break;
+            }
+            revoked.remove(head.tokenId(), head.expiresAt());
+            removed++;
+        }
+        if (removed == 0) {
+            return;
+        }
+
+        // 재구성 중에 추가된 항목은 새 필터에도 반영되도록, 교체 후 한 번 더 채움
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedTokens, revoked.size()), falsePositiveRate);
+        revoked.keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+        revoked.keySet().forEach(rebuilt::put);
+        log.debug("만료된 폐기 토큰 정리: removed={}, remaining={}", removed, revoked.size());
+    }
+
+    @Override
+    public void destroy() {
+        if (sweeper != null) {
+            sweeper.dispose();
+        }
+    }
+
+    private record Expiring(long expiresAt, String tokenId) implements Comparable<Expiring> {
+
+        @Override
+        public int compareTo(Expiring other) {
+            int byTime = Long.compare(expiresAt, other.expiresAt);
+            return byTime != 0 ? byTime : tokenId.compareTo(other.tokenId);
+        }
+    }
+}
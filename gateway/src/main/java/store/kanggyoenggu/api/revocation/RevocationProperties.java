@@ -0,0 +1,31 @@
+package store.kanggyoenggu.api.revocation;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+// 로그아웃된 JWT 폐기 목록 설정 Properties
+@Configuration
+@ConfigurationProperties(prefix = "revocation")
+@Getter
+@Setter
+public class RevocationProperties {
+
+    // Bloom 필터 크기 기준 (동시에 살아있는 폐기 토큰 예상 수)
+    private int expectedTokens = 100_000;
+
+    // Bloom 필터 오탐률 (오탐이면 정확한 집합 조회로 한 번 더 확인)
+    private double falsePositiveRate = 0.01;
+
+    // 만료된 항목 정리 및 Bloom 필터 재구성 주기
+    private Duration sweepInterval = Duration.ofMinutes(1);
+
+    // 성공 응답(2xx) 시 요청 토큰을 폐기하는 로그아웃 경로 (Ant 패턴)
+    private List<String> logoutPaths = new ArrayList<>(List.of("/auth/*/logout"));
+}
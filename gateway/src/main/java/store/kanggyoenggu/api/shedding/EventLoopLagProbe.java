@@ -0,0 +1,79 @@
+package store.kanggyoenggu.api.shedding;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import reactor.netty.http.HttpResources;
+
+// Netty 이벤트 루프 지연 측정
+// 서버 이벤트 루프마다 probeInterval 간격으로 작업을 예약하고, 예정 시각보다 늦게 실행된 만큼을 지연으로 기록
+// 루프가 막혀 작업이 아예 실행되지 못하는 경우도 잡기 위해, 조회 시 마지막 실행 이후 경과 시간도 함께 반영
+@Component
+public class EventLoopLagProbe implements DisposableBean {
+
+    private final long intervalNanos;
+    private final AtomicLongArray lagNanos;
+    private final AtomicLongArray lastRunNanos;
+    private final List<Future<?>> tasks = new ArrayList<>();
+    private volatile boolean running = true;
+
+    public EventLoopLagProbe(LoadSheddingProperties properties) {
+        this.intervalNanos = properties.getProbeInterval().toNanos();
+
+        // Gateway 서버가 사용하는 기본 이벤트 루프 (native 사용 가능하면 epoll/kqueue)
+        EventLoopGroup group = HttpResources.get().onServer(true);
+        List<EventExecutor> executors = new ArrayList<>();
+        group.forEach(executors::add);
+
+        this.lagNanos = new AtomicLongArray(executors.size());
+        this.lastRunNanos = new AtomicLongArray(executors.size());
+        long now = System.nanoTime();
+        for (int i = 0; i < executors.size(); i++) {
+            lastRunNanos.set(i, now);
+            schedule(executors.get(i), i, now + intervalNanos);
+        }
+    }
+
+    // 현재 이벤트 루프 지연 (가장 느린 루프 기준)
+    public long lagNanos() {
+        long now = System.nanoTime();
+        long max = 0;
+        for (int i = 0; i < lagNanos.length(); i++) {
+            long stalled = now - lastRunNanos.get(i) - intervalNanos;
+            max = Math.max(max, Math.max(lagNanos.get(i), stalled));
+        }
+        return max;
+    }
+
+    @Override
+    public void destroy() {
+        running = false;
+        synchronized (tasks) {
+            tasks.forEach(task -> task.cancel(false));
+        }
+    }
+
+    private void schedule(EventExecutor executor, int index, long expectedNanos) {
+        if (!running || executor.isShuttingDown()) {
+            return;
+        }
+        Future<?> task = executor.schedule(() -> {
+            long now = System.nanoTime();
+            lagNanos.set(index, Math.max(0, now - expectedNanos));
+            lastRunNanos.set(index, now);
+            schedule(executor, index, now + intervalNanos);
+        }, Math.max(0, expectedNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        synchronized (tasks) {
+            tasks.removeIf(Future::isDone);
+            tasks.add(task);
+        }
+    }
+}
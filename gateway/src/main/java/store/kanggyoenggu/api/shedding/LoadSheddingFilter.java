@@ -0,0 +1,101 @@
+package store.kanggyoenggu.api.shedding;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+// 우선순위 기반 부하 차단 필터
+// 이벤트 루프 지연(EventLoopLagProbe)과 Gateway 전체 처리 중 요청 수를 보고,
+// 라우트 우선순위(route metadata priority)의 임계값을 넘으면 upstream 호출 없이 503 + Retry-After
+// 임계값은 LOW < NORMAL < HIGH < CRITICAL 순으로 높아, 과부하가 심해질수록 낮은 우선순위부터 차단되고
+// OAuth 콜백(CRITICAL)은 마지막까지 처리
+@Component
+public class LoadSheddingFilter implements GlobalFilter, Ordered {
+
+    private final boolean enabled;
+    private final EventLoopLagProbe lagProbe;
+    private final Map<Priority, Long> lagThresholdNanos = new EnumMap<>(Priority.class);
+    private final Map<Priority, Integer> pendingThresholds = new EnumMap<>(Priority.class);
+    private final Map<Priority, Counter> rejected = new EnumMap<>(Priority.class);
+    private final AtomicInteger pending = new AtomicInteger();
+
+    public LoadSheddingFilter(LoadSheddingProperties properties, EventLoopLagProbe lagProbe,
+            MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.lagProbe = lagProbe;
+
+        for (Priority priority : Priority.values()) {
+            LoadSheddingProperties.Threshold threshold = properties.getThresholds().get(priority);
+            lagThresholdNanos.put(priority, threshold != null && threshold.getEventLoopLag() != null
+                    ? threshold.getEventLoopLag().toNanos()
+                    : Long.MAX_VALUE);
+            pendingThresholds.put(priority, threshold != null && threshold.getPending() > 0
+                    ? threshold.getPending()
+                    : Integer.MAX_VALUE);
+            rejected.put(priority, Counter.builder("gateway.shedding.rejected")
+                    .description("과부하로 차단된 요청 수")
+                    .tag("priority", priority.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+
+        Gauge.builder("gateway.shedding.eventloop.lag", lagProbe, probe -> probe.lagNanos() / 1_000_000.0)
+                .description("Netty 이벤트 루프 지연")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("gateway.shedding.pending", pending, AtomicInteger::get)
+                .description("Gateway 전체 처리 중 요청 수")
+                .baseUnit("requests")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!enabled) {
+            return chain.filter(exchange);
+        }
+
+        Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+        Priority priority = route != null
+                ? Priority.from(route.getMetadata().get(Priority.METADATA_KEY))
+                : Priority.NORMAL;
+
+        if (pending.get() >= pendingThresholds.get(priority)
+                || lagProbe.lagNanos() > lagThresholdNanos.get(priority)) {
+            rejected.get(priority).increment();
+            return reject(exchange.getResponse());
+        }
+
+        pending.incrementAndGet();
+        return chain.filter(exchange)
+                .doFinally(signal -> pending.decrementAndGet());
+    }
+
+    @Override
+    public int getOrder() {
+        // JWT 검증보다 먼저 실행해 차단할 요청에는 비용을 쓰지 않음
+        return Ordered.HIGHEST_PRECEDENCE + 50;
+    }
+
+    private static Mono<Void> reject(ServerHttpResponse response) {
+        response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, "1");
+        return response.setComplete();
+    }
+}
@@ -0,0 +1,52 @@
+package store.kanggyoenggu.api.shedding;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 우선순위 기반 부하 차단 설정 Properties
+// 우선순위마다 이벤트 루프 지연 / 처리 중 요청 수 임계값을 두고, 둘 중 하나라도 넘으면 그 우선순위의 요청을 거절
+@Configuration
+@ConfigurationProperties(prefix = "load-shedding")
+@Getter
+@Setter
+public class LoadSheddingProperties {
+
+    private boolean enabled = true;
+
+    // 이벤트 루프 지연 측정 주기
+    private Duration probeInterval = Duration.ofMillis(100);
+
+    // 우선순위별 차단 임계값 (CRITICAL은 가장 높게)
+    private Map<Priority, Threshold> thresholds = defaultThresholds();
+
+    private static Map<Priority, Threshold> defaultThresholds() {
+        Map<Priority, Threshold> thresholds = new EnumMap<>(Priority.class);
+        thresholds.put(Priority.LOW, new Threshold(Duration.ofMillis(50), 200));
+        thresholds.put(Priority.NORMAL, new Threshold(Duration.ofMillis(100), 500));
+        thresholds.put(Priority.HIGH, new Threshold(Duration.ofMillis(250), 1000));
+        thresholds.put(Priority.CRITICAL, new Threshold(Duration.ofSeconds(1), 4000));
+        return thresholds;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Threshold {
+
+        // 이벤트 루프 지연이 이 값을 넘으면 차단
+        private Duration eventLoopLag;
+
+        // Gateway 전체 처리 중 요청 수가 이 값을 넘으면 차단
+        private int pending;
+    }
+}
@@ -0,0 +1,31 @@
+package store.kanggyoenggu.api.shedding;
+
+import java.util.Locale;
+
+// 라우트 우선순위 (route metadata의 priority)
+// 과부하 시 LOW부터 거절하고 CRITICAL은 마지막까지 유지
+public enum Priority {
+
+    // 다시 시도할 수 없는 요청 (OAuth 콜백: 인가 코드는 1회용이고 수 분 내 만료)
+    CRITICAL,
+    // 로그인/로그아웃 등 사용자 동작
+    HIGH,
+    // 일반 조회 (지정하지 않은 라우트)
+    NORMAL,
+    // 재시도해도 되는 백그라운드성 요청
+    LOW;
+
+    public static final String METADATA_KEY = "priority";
+
+    // route metadata 값 변환, 없거나 잘못된 값이면 NORMAL
+    public static Priority from(Object value) {
+        if (value == null) {
+            return NORMAL;
+        }
+        try {
+            return valueOf(value.toString().trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return NORMAL;
+        }
+    }
+}
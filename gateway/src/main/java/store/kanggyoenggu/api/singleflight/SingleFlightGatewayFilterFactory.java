@@ -0,0 +1,202 @@
+package store.kanggyoenggu.api.singleflight;
+
+import static org.springframework.cloud.gateway.support.GatewayToStringStyler.filterToStringCreator;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.HasRouteId;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import store.kanggyoenggu.api.filter.JwtAuthenticationFilter;
+import store.kanggyoenggu.api.jwt.VerifiedToken;
+import store.kanggyoenggu.api.response.BufferedResponse;
+import store.kanggyoenggu.api.response.CapturingResponseDecorator;
+import store.kanggyoenggu.api.response.LocalResponses;
+
+// 동일 GET 요청 병합 필터 (SingleFlight)
+// 같은 라우트/경로/쿼리/사용자의 GET이 동시에 들어오면 첫 요청(leader)만 upstream으로 보내고,
+// 나머지(follower)는 leader의 응답 사본을 그대로 받음 (X-Single-Flight: SHARED)
+// - 익명 요청은 Cookie/Authorization 헤더가 없을 때만 병합 (사용자를 구분할 수 없으므로)
+// - leader 응답이 2xx가 아니거나 maxBodySize를 넘거나 Set-Cookie가 있거나 실패/취소되면 follower는 각자 upstream 호출
+//   (leader 한 명에게 내려진 429/503 등을 다른 클라이언트에 전달하지 않음)
+// - follower는 maxWait까지만 기다리고, 넘으면 각자 upstream 호출
+// ResponseCache와 함께 쓸 때는 ResponseCache 뒤에 두어 캐시 HIT은 병합 대상에서 제외
+//
+// 사용 예 (application.yaml):
+//   filters:
+//     - name: SingleFlight
+//       args:
+//         maxWait: 5s
+//         maxBodySize: 262144   # 공유할 응답 최대 바이트
+@Component
+public class SingleFlightGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<SingleFlightGatewayFilterFactory.Config> {
+
+    public static final String SINGLE_FLIGHT_HEADER = "X-Single-Flight";
+
+    static final String REQUESTS_COUNTER = "gateway.singleflight.requests";
+
+    // 진행 중인 upstream 호출 (완료되면 제거)
+    private final Map<FlightKey, Sinks.One<BufferedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public SingleFlightGatewayFilterFactory(MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("gateway.singleflight.inflight", inFlight, Map::size)
+                .description("병합 대상으로 진행 중인 upstream 호출 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("maxWait");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        String routeId = config.getRouteId();
+        Duration maxWait = config.getMaxWait();
+        int maxBodySize = config.getMaxBodySize();
+
+        Counter leaders = requestsCounter(routeId, "leader");
+        Counter shared = requestsCounter(routeId, "shared");
+        Counter fallbacks = requestsCounter(routeId, "fallback");
+
+        GatewayFilter filter = new GatewayFilter() {
+            @Override
+            public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+                ServerHttpRequest request = exchange.getRequest();
+                if (request.getMethod() != HttpMethod.GET) {
+                    return chain.filter(exchange);
+                }
+
+                VerifiedToken verified = exchange.getAttribute(JwtAuthenticationFilter.VERIFIED_TOKEN_ATTR);
+                if (verified == null && hasCredentials(request.getHeaders())) {
+                    return chain.filter(exchange);
+                }
+
+                FlightKey key = flightKey(routeId, request, verified);
+                Sinks.One<BufferedResponse> sink = Sinks.one();
+                Sinks.One<BufferedResponse> existing = inFlight.putIfAbsent(key, sink);
+
+                if (existing == null) {
+                    leaders.increment();
+                    return lead(exchange, chain, key, sink);
+                }
+
+                // leader 응답을 기다렸다가 복사, 받지 못하면 직접 upstream 호출
+                return existing.asMono()
+                        .timeout(maxWait, Mono.empty())
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty())
+                        .flatMap(response -> {
+                            if (response.isEmpty()) {
+                                fallbacks.increment();
+                                return chain.filter(exchange);
+                            }
+                            shared.increment();
+                            LocalResponses.markServedLocally(exchange);
+                            return response.get().writeTo(exchange.getResponse(),
+                                    headers -> headers.set(SINGLE_FLIGHT_HEADER, "SHARED"));
+                        });
+            }
+
+            private Mono<Void> lead(ServerWebExchange exchange, GatewayFilterChain chain,
+                    FlightKey key, Sinks.One<BufferedResponse> sink) {
+                CapturingResponseDecorator capture =
+                        new CapturingResponseDecorator(exchange.getResponse(), maxBodySize);
+                return chain.filter(exchange.mutate().response(capture).build())
+                        .doFinally(signal -> {
+                            // 새 요청이 끝난 호출에 붙지 않도록 먼저 제거한 뒤 결과 전달
+                            inFlight.remove(key, sink);
+                            BufferedResponse response = capture.captured();
+                            if (isShareable(response)) {
+                                sink.tryEmitValue(response);
+                            } else {
+                                sink.tryEmitEmpty();
+                            }
+                        });
+            }
+
+            @Override
+            public String toString() {
+                return filterToStringCreator(SingleFlightGatewayFilterFactory.this)
+                        .append("maxWait", maxWait)
+                        .append("maxBodySize", maxBodySize)
+                        .toString();
+            }
+        };
+        // 응답 본문은 NettyWriteResponseFilter가 쓰므로 그보다 먼저 실행되어야 데코레이터로 본문을 받을 수 있음
+        return new OrderedGatewayFilter(filter, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+
+    private Counter requestsCounter(String routeId, String role) {
+        return Counter.builder(REQUESTS_COUNTER)
+                .description("병합 필터를 거친 GET 요청 수 (leader: upstream 호출, shared: 응답 공유, fallback: 공유 실패 후 직접 호출)")
+                .tag("route", routeId != null ? routeId : "unknown")
+                .tag("role", role)
+                .register(meterRegistry);
+    }
+
+    // 2xx이고 Set-Cookie가 없는 응답만 공유
+    private static boolean isShareable(BufferedResponse response) {
+        return response != null
+                && response.status().is2xxSuccessful()
+                && !response.headers().containsKey(HttpHeaders.SET_COOKIE);
+    }
+
+    private static boolean hasCredentials(HttpHeaders headers) {
+        return headers.containsKey(HttpHeaders.COOKIE) || headers.containsKey(HttpHeaders.AUTHORIZATION);
+    }
+
+    private static FlightKey flightKey(String routeId, ServerHttpRequest request, VerifiedToken verified) {
+        String rawQuery = request.getURI().getRawQuery();
+        String pathAndQuery = rawQuery != null
+                ? request.getURI().getRawPath() + '?' + rawQuery
+                : request.getURI().getRawPath();
+        return new FlightKey(
+                routeId,
+                pathAndQuery,
+                verified != null ? verified.userId() : null,
+                request.getHeaders().getFirst(HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    // 병합 키: 라우트 + 경로/쿼리 + 사용자 + 압축 방식 (응답 본문이 달라지는 요소)
+    record FlightKey(String routeId, String pathAndQuery, String userId, String acceptEncoding) {
+    }
+
+    @Getter
+    @Setter
+    public static class Config implements HasRouteId {
+
+        // follower가 leader 응답을 기다리는 최대 시간
+        private Duration maxWait = Duration.ofSeconds(5);
+
+        // 공유할 응답 본문 최대 바이트
+        private int maxBodySize = 256 * 1024;
+
+        private String routeId;
+    }
+}
@@ -0,0 +1,72 @@
+package store.kanggyoenggu.api.upstream;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.cloud.gateway.config.HttpClientFactory;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.config.HttpClientSslConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.resources.ConnectionProvider;
+
+// Gateway가 백엔드 서비스를 호출하는 HttpClient 설정 (NettyRoutingFilter가 사용)
+// upstream-http.protocol=h2c면 HTTP/2 cleartext로 연결해 백엔드별로 적은 수의 커넥션에 요청을 다중화
+// - 커넥션 풀은 백엔드별 h2cMaxConnections개로 제한하고, 모든 커넥션의 동시 스트림 수가
+//   백엔드 한도(SETTINGS_MAX_CONCURRENT_STREAMS)에 차면 h2cAcquireTimeout까지 대기
+// - 기본 elastic 풀은 기동 직후 첫 커넥션이 준비되기 전에 들어온 요청마다 커넥션을 새로 열어
+//   적은 부하에서도 커넥션이 수십 개로 늘어난 채 유지됨
+// 커넥션 수는 reactor.netty.connection.provider.total.connections{name=proxy} 메트릭으로 확인
+@Slf4j
+@Configuration
+public class UpstreamHttpClientConfig {
+
+    @Bean
+    public HttpClientCustomizer upstreamProtocolCustomizer(UpstreamHttpProperties properties) {
+        if (properties.getProtocol() != UpstreamHttpProperties.Protocol.H2C) {
+            return httpClient -> httpClient;
+        }
+        log.info("백엔드 호출에 HTTP/2 cleartext(h2c) 사용 (백엔드별 커넥션 최대 {}개)",
+                properties.getH2cMaxConnections());
+        return httpClient -> httpClient.protocol(HttpProtocol.H2C);
+    }
+
+    // Gateway 기본 HttpClientFactory 대체 (HTTP/1.1이면 기본 풀 그대로, h2c면 커넥션 수를 제한한 풀)
+    @Bean
+    public HttpClientFactory gatewayHttpClientFactory(HttpClientProperties httpClientProperties,
+            ServerProperties serverProperties, List<HttpClientCustomizer> customizers,
+            HttpClientSslConfigurer sslConfigurer, UpstreamHttpProperties upstreamProperties) {
+        return new HttpClientFactory(httpClientProperties, serverProperties, sslConfigurer, customizers) {
+            @Override
+            protected ConnectionProvider buildConnectionProvider(HttpClientProperties properties) {
+                if (upstreamProperties.getProtocol() != UpstreamHttpProperties.Protocol.H2C) {
+                    return super.buildConnectionProvider(properties);
+                }
+                return h2cConnectionProvider(properties.getPool(), upstreamProperties);
+            }
+        };
+    }
+
+    private static ConnectionProvider h2cConnectionProvider(
+            HttpClientProperties.Pool pool, UpstreamHttpProperties upstreamProperties) {
+        ConnectionProvider.Builder builder = ConnectionProvider.builder(pool.getName())
+                .maxConnections(upstreamProperties.getH2cMaxConnections())
+                .pendingAcquireMaxCount(-1)
+                .pendingAcquireTimeout(upstreamProperties.getH2cAcquireTimeout())
+                .metrics(pool.isMetrics());
+        if (pool.getMaxIdleTime() != null) {
+            builder.maxIdleTime(pool.getMaxIdleTime());
+        }
+        if (pool.getMaxLifeTime() != null) {
+            builder.maxLifeTime(pool.getMaxLifeTime());
+        }
+        if (pool.getEvictionInterval() != null) {
+            builder.evictInBackground(pool.getEvictionInterval());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,36 @@
+package store.kanggyoenggu.api.upstream;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+// Gateway → 백엔드 서비스 HTTP 클라이언트 설정 Properties
+@Configuration
+@ConfigurationProperties(prefix = "upstream-http")
+@Getter
+@Setter
+public class UpstreamHttpProperties {
+
+    // 백엔드 호출 프로토콜
+    private Protocol protocol = Protocol.HTTP11;
+
+    // h2c일 때 백엔드별 최대 커넥션 수 (HTTP/1.1은 spring.cloud.gateway.httpclient.pool 설정을 따름)
+    // 한도가 없으면 첫 커넥션이 준비되기 전에 몰린 요청마다 커넥션이 새로 열리고, 이후 스트림이 모든 커넥션에
+    // 고르게 나뉘어 유휴 정리도 되지 않음
+    private int h2cMaxConnections = 4;
+
+    // h2c 커넥션/스트림이 모두 사용 중일 때 대기할 최대 시간
+    private Duration h2cAcquireTimeout = Duration.ofSeconds(10);
+
+    public enum Protocol {
+        // HTTP/1.1: 동시 요청마다 커넥션 하나
+        HTTP11,
+        // HTTP/2 cleartext (prior knowledge): 커넥션 하나에 여러 요청을 스트림으로 다중화
+        // 모든 백엔드가 h2c를 받아야 함 (server.http2.enabled=true)
+        H2C
+    }
+}
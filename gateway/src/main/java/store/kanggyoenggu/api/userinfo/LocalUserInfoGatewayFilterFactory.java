@@ -0,0 +1,151 @@
+package store.kanggyoenggu.api.userinfo;
+
+import static org.springframework.cloud.gateway.support.GatewayToStringStyler.filterToStringCreator;
+
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.Getter;
+import lombok.Setter;
+import reactor.core.publisher.Mono;
+import store.kanggyoenggu.api.filter.JwtAuthenticationFilter;
+import store.kanggyoenggu.api.jwt.VerifiedToken;
+import store.kanggyoenggu.api.response.LocalResponses;
+
+// 사용자 정보 조회(GET /auth/{provider}/user)를 Auth Service로 보내지 않고 Gateway에서 바로 응답 (LocalUserInfo)
+// Auth Service의 Kakao/Naver/GoogleController.getUserInfo는 Gateway가 넣은 사용자 헤더를
+// UserInfoResponse로 옮기기만 하므로, 검증된 토큰(VerifiedToken)으로 같은 JSON을 직접 작성
+// - 응답 본문은 Auth Service와 같은 Spring Boot ObjectMapper로 직렬화 (닉네임의 따옴표/제어 문자/이모지 이스케이프 동일)
+// - 카카오 경로인데 kakaoId가 없거나 닉네임이 없는 토큰, 모르는 제공자 경로는 기존처럼 upstream으로 전달
+// - ResponseCache/SingleFlight보다 먼저 실행되어 캐시 항목을 만들지 않음 (LocalRateLimiter/AdaptiveConcurrency는 이보다 먼저 적용됨)
+//
+// 사용 예 (application.yaml):
+//   filters:
+//     - name: LocalUserInfo
+//       args:
+//         enabled: true
+//         providers: kakao,naver,google
+@Component
+public class LocalUserInfoGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<LocalUserInfoGatewayFilterFactory.Config> {
+
+    // UserInfoResponse.success(...)의 message
+    static final String SUCCESS_MESSAGE = "사용자 정보 조회 성공";
+
+    private static final String PATH_PREFIX = "/auth/";
+    private static final String PATH_SUFFIX = "/user";
+
+    private final ObjectMapper objectMapper;
+
+    public LocalUserInfoGatewayFilterFactory(ObjectMapper objectMapper) {
+        super(Config.class);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("enabled");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        boolean enabled = config.isEnabled();
+        Set<String> providers = Set.copyOf(config.getProviders());
+
+        GatewayFilter filter = new GatewayFilter() {
+            @Override
+            public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+                if (!enabled || exchange.getRequest().getMethod() != HttpMethod.GET) {
+                    return chain.filter(exchange);
+                }
+
+                String provider = provider(exchange.getRequest().getPath().value());
+                VerifiedToken verified = exchange.getAttribute(JwtAuthenticationFilter.VERIFIED_TOKEN_ATTR);
+                if (provider == null || !providers.contains(provider) || verified == null
+                        || verified.userId() == null || verified.nickname() == null) {
+                    return chain.filter(exchange);
+                }
+
+                // KakaoController는 X-Kakao-Id 헤더가 필수, 네이버/구글은 항상 null
+                Long kakaoId = null;
+                if ("kakao".equals(provider)) {
+                    if (verified.kakaoId() == null) {
+                        return chain.filter(exchange);
+                    }
+                    kakaoId = verified.kakaoId();
+                }
+
+                byte[] body;
+                try {
+                    body = render(verified.userId(), kakaoId, verified.nickname());
+                } catch (JsonProcessingException e) {
+                    return chain.filter(exchange);
+                }
+                LocalResponses.markServedLocally(exchange);
+                ServerHttpResponse response = exchange.getResponse();
+                response.setStatusCode(HttpStatus.OK);
+                response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                response.getHeaders().setContentLength(body.length);
+                return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+            }
+
+            @Override
+            public String toString() {
+                return filterToStringCreator(LocalUserInfoGatewayFilterFactory.this)
+                        .append("enabled", enabled)
+                        .append("providers", providers)
+                        .toString();
+            }
+        };
+        // ResponseCache(WRITE_RESPONSE_FILTER_ORDER - 1)보다 먼저
+        return new OrderedGatewayFilter(filter, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 2);
+    }
+
+    // /auth/{provider}/user → provider
+    static String provider(String path) {
+        if (!path.startsWith(PATH_PREFIX) || !path.endsWith(PATH_SUFFIX)
+                || path.length() <= PATH_PREFIX.length() + PATH_SUFFIX.length()) {
+            return null;
+        }
+        String provider = path.substring(PATH_PREFIX.length(), path.length() - PATH_SUFFIX.length());
+        return provider.indexOf('/') < 0 ? provider : null;
+    }
+
+    byte[] render(String userId, Long kakaoId, String nickname) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(
+                new UserInfoBody(true, SUCCESS_MESSAGE, new UserData(userId, kakaoId, nickname)));
+    }
+
+    // Auth Service UserInfoResponse와 같은 필드 이름/순서
+    record UserInfoBody(boolean success, String message, UserData user) {
+    }
+
+    record UserData(String id, Long kakaoId, String nickname) {
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+
+        // false면 항상 upstream으로 전달
+        private boolean enabled = true;
+
+        // Gateway에서 응답할 제공자 (/auth/{provider}/user)
+        private List<String> providers = List.of("kakao", "naver", "google");
+    }
+}
@@ -3,7 +3,7 @@ package store.kanggyoenggu.api;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "jwt.secret=test-secret-key-for-gateway-context-0123456789")
 class ApiApplicationTests {
 
 	@Test
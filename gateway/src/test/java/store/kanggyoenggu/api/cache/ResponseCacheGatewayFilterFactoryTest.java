@@ -0,0 +1,191 @@
+package store.kanggyoenggu.api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import store.kanggyoenggu.api.filter.JwtAuthenticationFilter;
+import store.kanggyoenggu.api.jwt.VerifiedToken;
+import store.kanggyoenggu.api.response.LocalResponses;
+
+class ResponseCacheGatewayFilterFactoryTest {
+
+	private static final String USER_PATH = "/auth/kakao/user";
+
+	@Test
+	void servesStoredOkResponseFromCache() {
+		GatewayFilter filter = newFilter(Duration.ofSeconds(30));
+		StubUpstream upstream = new StubUpstream(HttpStatus.OK);
+
+		MockServerWebExchange first = get(USER_PATH, "1");
+		filter.filter(first, upstream).block();
+		MockServerWebExchange second = get(USER_PATH, "1");
+		filter.filter(second, upstream).block();
+
+		assertThat(upstream.calls.get()).isEqualTo(1);
+		assertThat(first.getResponse().getHeaders().getFirst(ResponseCacheGatewayFilterFactory.CACHE_STATUS_HEADER))
+				.isEqualTo("MISS");
+		assertThat(second.getResponse().getHeaders().getFirst(ResponseCacheGatewayFilterFactory.CACHE_STATUS_HEADER))
+				.isEqualTo("HIT");
+		assertThat(second.getResponse().getHeaders().getFirst(HttpHeaders.AGE)).isEqualTo("0");
+		assertThat(second.getResponse().getBodyAsString().block()).isEqualTo("body-1");
+		// 캐시 HIT은 upstream 지연 표본에서 제외되도록 표시
+		assertThat(LocalResponses.isServedLocally(second)).isTrue();
+		assertThat(LocalResponses.isServedLocally(first)).isFalse();
+	}
+
+	@Test
+	void storesOnlyOkResponses() {
+		GatewayFilter filter = newFilter(Duration.ofSeconds(30));
+		StubUpstream upstream = new StubUpstream(HttpStatus.TOO_MANY_REQUESTS);
+
+		filter.filter(get(USER_PATH, "1"), upstream).block();
+		filter.filter(get(USER_PATH, "1"), upstream).block();
+		upstream.status = HttpStatus.NO_CONTENT;
+		filter.filter(get(USER_PATH, "1"), upstream).block();
+		filter.filter(get(USER_PATH, "1"), upstream).block();
+
+		assertThat(upstream.calls.get()).isEqualTo(4);
+	}
+
+	@Test
+	void doesNotCacheNonGetOrSetCookieResponses() {
+		GatewayFilter filter = newFilter(Duration.ofSeconds(30));
+		StubUpstream upstream = new StubUpstream(HttpStatus.OK);
+
+		for (int i = 0; i < 2; i++) {
+			MockServerWebExchange post = MockServerWebExchange.from(MockServerHttpRequest.method(HttpMethod.POST, USER_PATH));
+			filter.filter(post, upstream).block();
+		}
+		assertThat(upstream.calls.get()).isEqualTo(2);
+
+		upstream.setCookie = true;
+		filter.filter(get("/auth/kakao/login-url", null), upstream).block();
+		filter.filter(get("/auth/kakao/login-url", null), upstream).block();
+		assertThat(upstream.calls.get()).isEqualTo(4);
+	}
+
+	@Test
+	void honorsNoStoreAndPrivateForSharedKeys() {
+		GatewayFilter filter = newFilter(Duration.ofSeconds(30));
+		StubUpstream upstream = new StubUpstream(HttpStatus.OK);
+
+		upstream.cacheControl = "no-store";
+		filter.filter(get(USER_PATH, "1"), upstream).block();
+		filter.filter(get(USER_PATH, "1"), upstream).block();
+		assertThat(upstream.calls.get()).isEqualTo(2);
+
+		// private 응답은 사용자별 키일 때만 저장
+		upstream.cacheControl = "private, max-age=60";
+		filter.filter(get("/public", null), upstream).block();
+		filter.filter(get("/public", null), upstream).block();
+		assertThat(upstream.calls.get()).isEqualTo(4);
+		filter.filter(get(USER_PATH, "1"), upstream).block();
+		filter.filter(get(USER_PATH, "1"), upstream).block();
+		assertThat(upstream.calls.get()).isEqualTo(5);
+	}
+
+	@Test
+	void entryExpiresAfterTtl() throws InterruptedException {
+		GatewayFilter filter = newFilter(Duration.ofMillis(100));
+		StubUpstream upstream = new StubUpstream(HttpStatus.OK);
+
+		filter.filter(get(USER_PATH, "1"), upstream).block();
+		filter.filter(get(USER_PATH, "1"), upstream).block();
+		assertThat(upstream.calls.get()).isEqualTo(1);
+
+		Thread.sleep(200);
+
+		MockServerWebExchange expired = get(USER_PATH, "1");
+		filter.filter(expired, upstream).block();
+		assertThat(upstream.calls.get()).isEqualTo(2);
+		assertThat(expired.getResponse().getHeaders().getFirst(ResponseCacheGatewayFilterFactory.CACHE_STATUS_HEADER))
+				.isEqualTo("MISS");
+	}
+
+	@Test
+	void neverServesOneUsersResponseToAnother() {
+		GatewayFilter filter = newFilter(Duration.ofSeconds(30));
+		StubUpstream upstream = new StubUpstream(HttpStatus.OK);
+
+		MockServerWebExchange alice = get(USER_PATH, "1");
+		filter.filter(alice, upstream).block();
+		MockServerWebExchange bob = get(USER_PATH, "2");
+		filter.filter(bob, upstream).block();
+		MockServerWebExchange aliceAgain = get(USER_PATH, "1");
+		filter.filter(aliceAgain, upstream).block();
+
+		assertThat(upstream.calls.get()).isEqualTo(2);
+		assertThat(bob.getResponse().getBodyAsString().block()).isEqualTo("body-2");
+		assertThat(bob.getResponse().getHeaders().getFirst(ResponseCacheGatewayFilterFactory.CACHE_STATUS_HEADER))
+				.isEqualTo("MISS");
+		assertThat(aliceAgain.getResponse().getBodyAsString().block()).isEqualTo("body-1");
+	}
+
+	// cacheControl=honor (기본), upstream에 Cache-Control이 없으면 ttl 사용
+	private static GatewayFilter newFilter(Duration ttl) {
+		ResponseCache cache = new ResponseCache(new ResponseCacheProperties(), new SimpleMeterRegistry());
+		ResponseCacheGatewayFilterFactory.Config config = new ResponseCacheGatewayFilterFactory.Config();
+		config.setRouteId("auth-user");
+		config.setTtl(ttl);
+		return new ResponseCacheGatewayFilterFactory(cache).apply(config);
+	}
+
+	// userId가 있으면 JwtAuthenticationFilter를 거친 사용자 요청
+	private static MockServerWebExchange get(String path, String userId) {
+		MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get(path);
+		if (userId != null) {
+			request.header(HttpHeaders.AUTHORIZATION, "Bearer token-" + userId);
+		}
+		MockServerWebExchange exchange = MockServerWebExchange.from(request);
+		if (userId != null) {
+			exchange.getAttributes().put(JwtAuthenticationFilter.VERIFIED_TOKEN_ATTR,
+					new VerifiedToken(userId, null, "닉네임", Long.MAX_VALUE, null, null));
+		}
+		return exchange;
+	}
+
+	// 호출마다 "body-{호출 순번}"으로 응답하는 upstream
+	private static class StubUpstream implements GatewayFilterChain {
+
+		private final AtomicInteger calls = new AtomicInteger();
+		private HttpStatus status;
+		private boolean setCookie;
+		private String cacheControl;
+
+		StubUpstream(HttpStatus status) {
+			this.status = status;
+		}
+
+		@Override
+		public Mono<Void> filter(ServerWebExchange exchange) {
+			int call = calls.incrementAndGet();
+			ServerHttpResponse response = exchange.getResponse();
+			response.setStatusCode(status);
+			if (setCookie) {
+				response.getHeaders().add(HttpHeaders.SET_COOKIE, "oauth_binding=" + call);
+			}
+			if (cacheControl != null) {
+				response.getHeaders().set(HttpHeaders.CACHE_CONTROL, cacheControl);
+			}
+			byte[] body = ("body-" + call).getBytes(StandardCharsets.UTF_8);
+			response.getHeaders().setContentLength(body.length);
+			return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package store.kanggyoenggu.api.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class GradientLimitTest {
+
+	private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+	private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+	@Test
+	void rejectsWhenInFlightReachesLimit() {
+		GradientLimit limit = new GradientLimit(2, 1, 10);
+
+		assertThat(limit.tryAcquire()).isEqualTo(1);
+		assertThat(limit.tryAcquire()).isEqualTo(2);
+		assertThat(limit.tryAcquire()).isEqualTo(-1);
+
+		limit.onIgnored();
+		assertThat(limit.getInFlight()).isEqualTo(1);
+		assertThat(limit.tryAcquire()).isEqualTo(2);
+	}
+
+	@Test
+	void growsWhileLatencyIsStableAndSaturated() {
+		GradientLimit limit = new GradientLimit(10, 1, 100);
+
+		complete(limit, 50, FAST);
+
+		assertThat(limit.getLimit()).isGreaterThan(10);
+		assertThat(limit.getInFlight()).isZero();
+	}
+
+	@Test
+	void shrinksWhenLatencyRisesAboveLongTermAverage() {
+		GradientLimit limit = new GradientLimit(20, 1, 100);
+		complete(limit, 20, FAST);
+		int beforeSpike = limit.getLimit();
+
+		complete(limit, 20, SLOW);
+
+		assertThat(limit.getLimit()).isLessThan(beforeSpike);
+	}
+
+	@Test
+	void ignoresSamplesWhileUnderutilized() {
+		GradientLimit limit = new GradientLimit(20, 1, 100);
+
+		for (int i = 0; i < 50; i++) {
+			limit.tryAcquire();
+			limit.onSuccess(SLOW, 1);
+		}
+
+		assertThat(limit.getLimit()).isEqualTo(20);
+		assertThat(limit.getLongRttNanos()).isEqualTo(SLOW);
+	}
+
+	@Test
+	void backsOffOnDroppedRequestsDownToMinLimit() {
+		GradientLimit limit = new GradientLimit(20, 5, 100);
+
+		limit.tryAcquire();
+		limit.onDropped();
+		assertThat(limit.getLimit()).isEqualTo(18);
+		assertThat(limit.getInFlight()).isZero();
+
+		for (int i = 0; i < 50; i++) {
+			limit.tryAcquire();
+			limit.onDropped();
+		}
+		assertThat(limit.getLimit()).isEqualTo(5);
+	}
+
+	@Test
+	void staysWithinMaxLimit() {
+		GradientLimit limit = new GradientLimit(50, 1, 12);
+		assertThat(limit.getLimit()).isEqualTo(12);
+
+		complete(limit, 100, FAST);
+
+		assertThat(limit.getLimit()).isEqualTo(12);
+	}
+
+	@Test
+	void rejectsInvalidBounds() {
+		assertThatThrownBy(() -> new GradientLimit(10, 0, 10)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new GradientLimit(10, 5, 4)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	// 한도까지 채운 상태에서 시작한 요청이 rtt 만에 끝난 것으로 기록
+	private static void complete(GradientLimit limit, int requests, long rttNanos) {
+		for (int i = 0; i < requests; i++) {
+			int inFlightAtStart = limit.getLimit();
+			limit.tryAcquire();
+			limit.onSuccess(rttNanos, inFlightAtStart);
+		}
+	}
+}
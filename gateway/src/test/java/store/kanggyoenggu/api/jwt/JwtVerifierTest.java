@@ -0,0 +1,131 @@
+package store.kanggyoenggu.api.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import javax.crypto.SecretKey;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+class JwtVerifierTest {
+
+	private static final String SECRET = "gateway-test-secret-0123456789-abcdefghijklmn";
+	private static final String PREVIOUS_SECRET = "gateway-previous-secret-0123456789-abcdefghij";
+
+	@Test
+	void cachesValidTokenAndSkipsParsingOnNextCall() {
+		JwtVerifier verifier = newVerifier(null);
+		String token = sign(SECRET, claims().expiration(secondsFromNow(60)));
+
+		VerifiedToken first = verifier.verify(token);
+		VerifiedToken second = verifier.verify(token);
+
+		assertThat(first).isNotNull();
+		assertThat(first.kakaoId()).isEqualTo(42L);
+		assertThat(first.nickname()).isEqualTo("닉네임");
+		assertThat(first.tokenId()).isEqualTo("jti-1");
+		// 두 번째 호출은 파싱 없이 캐시의 같은 인스턴스 반환
+		assertThat(second).isSameAs(first);
+		assertThat(verifier.cachedTokens()).isEqualTo(1);
+	}
+
+	@Test
+	void rejectsExpiredTokenBeforeSignatureCheck() {
+		JwtVerifier verifier = newVerifier(null);
+		String expired = sign(SECRET, claims().expiration(secondsFromNow(-10)));
+		// 서명이 틀린 만료 토큰도 서명 검증까지 가지 않고 같은 결과
+		String expiredWithBadSignature = expired.substring(0, expired.lastIndexOf('.') + 1) + "AAAA";
+
+		assertThat(verifier.verify(expired)).isNull();
+		assertThat(verifier.verify(expiredWithBadSignature)).isNull();
+		assertThat(verifier.cachedTokens()).isZero();
+	}
+
+	@Test
+	void cachedTokenStopsVerifyingAtExpiry() throws InterruptedException {
+		JwtVerifier verifier = newVerifier(null);
+		String token = sign(SECRET, claims().expiration(secondsFromNow(2)));
+		assertThat(verifier.verify(token)).isNotNull();
+
+		Thread.sleep(2_100);
+
+		assertThat(verifier.verify(token)).isNull();
+	}
+
+	@Test
+	void tamperedSignatureIsRejectedAndNeverCached() {
+		JwtVerifier verifier = newVerifier(null);
+		String token = sign(SECRET, claims().expiration(secondsFromNow(60)));
+		String otherKey = sign("other-secret-0123456789-abcdefghijklmnopqrstuv",
+				claims().expiration(secondsFromNow(60)));
+		String tampered = token.substring(0, token.lastIndexOf('.')) + otherKey.substring(otherKey.lastIndexOf('.'));
+
+		assertThat(verifier.verify(tampered)).isNull();
+		assertThat(verifier.verify(tampered)).isNull();
+		assertThat(verifier.cachedTokens()).isZero();
+	}
+
+	@Test
+	void tokenWithoutExpirationIsVerifiedButNotCached() {
+		JwtVerifier verifier = newVerifier(null);
+		String token = sign(SECRET, claims());
+
+		VerifiedToken first = verifier.verify(token);
+		VerifiedToken second = verifier.verify(token);
+
+		assertThat(first).isNotNull();
+		assertThat(first.expiresAt()).isEqualTo(Long.MAX_VALUE);
+		assertThat(second).isNotSameAs(first).isEqualTo(first);
+		assertThat(verifier.cachedTokens()).isZero();
+	}
+
+	@Test
+	void acceptsTokenSignedWithPreviousSecretOnlyWhenConfigured() {
+		String token = sign(PREVIOUS_SECRET, claims().expiration(secondsFromNow(60)));
+
+		assertThat(newVerifier(PREVIOUS_SECRET).verify(token)).isNotNull();
+		assertThat(newVerifier(null).verify(token)).isNull();
+	}
+
+	@Test
+	void readsCompactProfileClaims() {
+		JwtVerifier verifier = newVerifier(null);
+		String token = sign(SECRET, Jwts.builder().subject("7").claim("p", "k").claim("n", "닉네임")
+				.expiration(secondsFromNow(60)));
+
+		VerifiedToken verified = verifier.verify(token);
+
+		assertThat(verified.provider()).isEqualTo("kakao");
+		assertThat(verified.userId()).isEqualTo("7");
+		assertThat(verified.kakaoId()).isEqualTo(7L);
+		assertThat(verified.nickname()).isEqualTo("닉네임");
+	}
+
+	private static JwtVerifier newVerifier(String previousSecret) {
+		JwtProperties properties = new JwtProperties();
+		properties.setSecret(SECRET);
+		properties.setPreviousSecret(previousSecret);
+		return new JwtVerifier(properties, WebClient.builder());
+	}
+
+	// 기존(STANDARD) 프로필 클레임
+	private static JwtBuilder claims() {
+		return Jwts.builder().subject("42").claim("kakaoId", 42L).claim("nickname", "닉네임").id("jti-1");
+	}
+
+	private static String sign(String secret, JwtBuilder builder) {
+		SecretKey key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+		return builder.signWith(key).compact();
+	}
+
+	private static Date secondsFromNow(long seconds) {
+		return new Date(System.currentTimeMillis() + seconds * 1000);
+	}
+}
@@ -0,0 +1,120 @@
+package store.kanggyoenggu.api.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketsTest {
+
+	private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+	private static final long BURST = INTERVAL * 3;
+	private static final long NOW = TimeUnit.SECONDS.toNanos(1_000);
+
+	@Test
+	void allowsBurstThenDeniesWithWaitUntilNextToken() {
+		TokenBuckets buckets = newBuckets(100);
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(buckets.tryAcquire("route", "u:1", INTERVAL, BURST, NOW)).isZero();
+		}
+		assertThat(buckets.tryAcquire("route", "u:1", INTERVAL, BURST, NOW)).isEqualTo(INTERVAL);
+		assertThat(buckets.tryAcquire("route", "u:1", INTERVAL, BURST, NOW + INTERVAL / 2)).isEqualTo(INTERVAL / 2);
+
+		// 한 간격이 지나면 토큰 하나만 다시 허용
+		assertThat(buckets.tryAcquire("route", "u:1", INTERVAL, BURST, NOW + INTERVAL)).isZero();
+		assertThat(buckets.tryAcquire("route", "u:1", INTERVAL, BURST, NOW + INTERVAL)).isPositive();
+	}
+
+	@Test
+	void keepsSeparateBucketsPerRouteAndKey() {
+		TokenBuckets buckets = newBuckets(100);
+
+		assertThat(buckets.tryAcquire("route", "u:1", INTERVAL, INTERVAL, NOW)).isZero();
+		assertThat(buckets.tryAcquire("route", "u:1", INTERVAL, INTERVAL, NOW)).isPositive();
+
+		assertThat(buckets.tryAcquire("route", "u:2", INTERVAL, INTERVAL, NOW)).isZero();
+		assertThat(buckets.tryAcquire("other", "u:1", INTERVAL, INTERVAL, NOW)).isZero();
+		assertThat(buckets.size()).isEqualTo(3);
+	}
+
+	@Test
+	void sweepEvictsOnlyFullBuckets() {
+		TokenBuckets buckets = newBuckets(100);
+		buckets.tryAcquire("route", "idle", INTERVAL, BURST, NOW);
+		buckets.tryAcquire("route", "busy", INTERVAL, BURST, NOW + 5 * INTERVAL);
+		buckets.tryAcquire("route", "busy", INTERVAL, BURST, NOW + 5 * INTERVAL);
+
+		// idle: TAT = NOW + 1 간격, busy: TAT = NOW + 7 간격
+		buckets.sweep(NOW + 2 * INTERVAL);
+
+		assertThat(buckets.size()).isEqualTo(1);
+		// 제거된 버킷은 가득 찬 상태로 다시 만들어지므로 결과는 같음
+		for (int i = 0; i < 3; i++) {
+			assertThat(buckets.tryAcquire("route", "idle", INTERVAL, BURST, NOW + 2 * INTERVAL)).isZero();
+		}
+	}
+
+	@Test
+	void newKeysShareRouteOverflowBucketWhenFull() {
+		TokenBuckets buckets = newBuckets(1);
+		assertThat(buckets.tryAcquire("route", "u:1", INTERVAL, INTERVAL, NOW)).isZero();
+
+		// 상한에 닿은 뒤 새 키들은 라우트 공용 버킷 하나로 제한 (제한 없이 통과하지 않음)
+		assertThat(buckets.tryAcquire("route", "u:2", INTERVAL, INTERVAL, NOW)).isZero();
+		assertThat(buckets.tryAcquire("route", "u:3", INTERVAL, INTERVAL, NOW)).isPositive();
+		assertThat(buckets.tryAcquire("other", "u:4", INTERVAL, INTERVAL, NOW)).isZero();
+
+		assertThat(buckets.size()).isEqualTo(1);
+		assertThat(buckets.overflowCount()).isEqualTo(3);
+
+		// 추적 중인 키는 자기 버킷을 계속 사용
+		assertThat(buckets.tryAcquire("route", "u:1", INTERVAL, INTERVAL, NOW + INTERVAL)).isZero();
+	}
+
+	@Test
+	void newKeyGetsOwnBucketOnceSpikeBucketsGoIdle() {
+		TokenBuckets buckets = newBuckets(2);
+
+		// 서로 다른 IP가 한꺼번에 몰려 상한과 overflow 버킷을 모두 소진
+		assertThat(buckets.tryAcquire("route", "ip:1", INTERVAL, INTERVAL, NOW)).isZero();
+		assertThat(buckets.tryAcquire("route", "ip:2", INTERVAL, INTERVAL, NOW)).isZero();
+		assertThat(buckets.tryAcquire("route", "ip:3", INTERVAL, INTERVAL, NOW)).isZero();
+		assertThat(buckets.tryAcquire("route", "ip:4", INTERVAL, INTERVAL, NOW)).isPositive();
+		assertThat(buckets.overflowCount()).isEqualTo(2);
+
+		// 한 간격 뒤 몰렸던 키들의 버킷은 유휴 상태: 정리 주기를 기다리지 않고 새 키에 자리를 내줌
+		assertThat(buckets.tryAcquire("route", "new", INTERVAL, INTERVAL, NOW + INTERVAL)).isZero();
+		assertThat(buckets.overflowCount()).isEqualTo(2);
+		assertThat(buckets.size()).isEqualTo(1);
+
+		// 새 키끼리 공용 버킷 한도를 나누지 않고 각자 버킷으로 제한
+		assertThat(buckets.tryAcquire("route", "other", INTERVAL, INTERVAL, NOW + INTERVAL)).isZero();
+		assertThat(buckets.tryAcquire("route", "new", INTERVAL, INTERVAL, NOW + INTERVAL)).isPositive();
+	}
+
+	@Test
+	void evictsOnRequestPathAtMostOncePerMinInterval() {
+		TokenBuckets buckets = newBuckets(1);
+		// a: TAT = NOW + 반 간격
+		buckets.tryAcquire("route", "a", INTERVAL, INTERVAL, NOW - INTERVAL / 2);
+		// 정리를 시도하지만 a는 사용 중 → overflow
+		assertThat(buckets.tryAcquire("route", "b", INTERVAL, INTERVAL, NOW)).isZero();
+		assertThat(buckets.overflowCount()).isEqualTo(1);
+
+		// a가 유휴 상태가 되어도 최소 간격(기본 100ms) 전에는 다시 정리하지 않음
+		buckets.tryAcquire("route", "c", INTERVAL, INTERVAL, NOW + INTERVAL / 2);
+		assertThat(buckets.overflowCount()).isEqualTo(2);
+
+		buckets.tryAcquire("route", "c", INTERVAL, INTERVAL, NOW + INTERVAL);
+		assertThat(buckets.overflowCount()).isEqualTo(2);
+		assertThat(buckets.size()).isEqualTo(1);
+	}
+
+	private static TokenBuckets newBuckets(int maxBuckets) {
+		RateLimitProperties properties = new RateLimitProperties();
+		properties.setMaxBuckets(maxBuckets);
+		return new TokenBuckets(properties);
+	}
+}
@@ -0,0 +1,44 @@
+package store.kanggyoenggu.api.revocation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+	@Test
+	void hasNoFalseNegatives() {
+		BloomFilter filter = new BloomFilter(1_000, 0.01);
+		for (int i = 0; i < 1_000; i++) {
+			filter.put("jti-" + i);
+		}
+
+		for (int i = 0; i < 1_000; i++) {
+			assertThat(filter.mightContain("jti-" + i)).isTrue();
+		}
+	}
+
+	@Test
+	void keepsFalsePositiveRateNearConfiguredValue() {
+		BloomFilter filter = new BloomFilter(1_000, 0.01);
+		for (int i = 0; i < 1_000; i++) {
+			filter.put("jti-" + i);
+		}
+
+		int falsePositives = 0;
+		for (int i = 0; i < 10_000; i++) {
+			if (filter.mightContain("other-" + i)) {
+				falsePositives++;
+			}
+		}
+		assertThat(falsePositives).isLessThan(300);
+	}
+
+	@Test
+	void emptyFilterContainsNothing() {
+		BloomFilter filter = new BloomFilter(100, 0.01);
+
+		assertThat(filter.mightContain("jti")).isFalse();
+		assertThat(filter.mightContain("")).isFalse();
+	}
+}
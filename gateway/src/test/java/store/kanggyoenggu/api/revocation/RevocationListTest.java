@@ -0,0 +1,76 @@
+package store.kanggyoenggu.api.revocation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class RevocationListTest {
+
+	private static final long HOUR = TimeUnit.HOURS.toMillis(1);
+
+	@Test
+	void revokedTokensAreReportedUntilTheyExpire() {
+		RevocationList list = newList();
+		long now = System.currentTimeMillis();
+
+		list.revoke("jti-1", now + HOUR);
+
+		assertThat(list.isRevoked("jti-1")).isTrue();
+		assertThat(list.isRevoked("jti-2")).isFalse();
+		assertThat(list.isRevoked(null)).isFalse();
+		assertThat(list.size()).isEqualTo(1);
+	}
+
+	@Test
+	void ignoresAlreadyExpiredOrMissingTokenIds() {
+		RevocationList list = newList();
+
+		list.revoke("expired", System.currentTimeMillis() - 1);
+		list.revoke(null, System.currentTimeMillis() + HOUR);
+
+		assertThat(list.isRevoked("expired")).isFalse();
+		assertThat(list.size()).isZero();
+	}
+
+	@Test
+	void sweepRemovesExpiredEntriesAndRebuildsFilter() {
+		RevocationList list = newList();
+		long now = System.currentTimeMillis();
+		for (int i = 0; i < 50; i++) {
+			list.revoke("short-" + i, now + HOUR);
+			list.revoke("long-" + i, now + 3 * HOUR);
+		}
+
+		list.sweep(now + 2 * HOUR);
+
+		assertThat(list.size()).isEqualTo(50);
+		for (int i = 0; i < 50; i++) {
+			assertThat(list.isRevoked("short-" + i)).isFalse();
+			assertThat(list.isRevoked("long-" + i)).isTrue();
+		}
+
+		// 재구성 후 추가한 항목도 조회됨
+		list.revoke("after-sweep", now + HOUR);
+		assertThat(list.isRevoked("after-sweep")).isTrue();
+	}
+
+	@Test
+	void sweepWithoutExpiredEntriesKeepsEverything() {
+		RevocationList list = newList();
+		long now = System.currentTimeMillis();
+		list.revoke("jti", now + HOUR);
+
+		list.sweep(now);
+
+		assertThat(list.isRevoked("jti")).isTrue();
+		assertThat(list.size()).isEqualTo(1);
+	}
+
+	private static RevocationList newList() {
+		RevocationProperties properties = new RevocationProperties();
+		properties.setExpectedTokens(1_000);
+		return new RevocationList(properties);
+	}
+}
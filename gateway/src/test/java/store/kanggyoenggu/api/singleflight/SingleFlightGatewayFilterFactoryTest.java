@@ -0,0 +1,166 @@
+package store.kanggyoenggu.api.singleflight;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import store.kanggyoenggu.api.filter.JwtAuthenticationFilter;
+import store.kanggyoenggu.api.jwt.VerifiedToken;
+
+class SingleFlightGatewayFilterFactoryTest {
+
+	private final GatewayFilter filter = newFilter();
+
+	@Test
+	void followerSharesLeaderSuccessWithSingleUpstreamCall() {
+		StubUpstream upstream = new StubUpstream(HttpStatus.OK);
+		MockServerWebExchange leader = exchange("1");
+		MockServerWebExchange follower = exchange("1");
+
+		filter.filter(leader, upstream).subscribe();
+		filter.filter(follower, upstream).subscribe();
+		upstream.release();
+
+		assertThat(upstream.calls.get()).isEqualTo(1);
+		assertThat(follower.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(follower.getResponse().getBodyAsString().block()).isEqualTo("body-1");
+		assertThat(follower.getResponse().getHeaders().getFirst(SingleFlightGatewayFilterFactory.SINGLE_FLIGHT_HEADER))
+				.isEqualTo("SHARED");
+		assertThat(leader.getResponse().getBodyAsString().block()).isEqualTo("body-1");
+	}
+
+	@Test
+	void leaderRateLimitIsNotSharedWithFollower() {
+		StubUpstream upstream = new StubUpstream(HttpStatus.TOO_MANY_REQUESTS, HttpStatus.OK);
+		MockServerWebExchange leader = exchange("1");
+		MockServerWebExchange follower = exchange("1");
+
+		filter.filter(leader, upstream).subscribe();
+		filter.filter(follower, upstream).subscribe();
+		upstream.release();
+
+		// leader가 받은 429는 leader에게만, follower는 직접 upstream 호출
+		assertThat(upstream.calls.get()).isEqualTo(2);
+		assertThat(leader.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+		assertThat(follower.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(follower.getResponse().getHeaders())
+				.doesNotContainKey(SingleFlightGatewayFilterFactory.SINGLE_FLIGHT_HEADER);
+	}
+
+	@Test
+	void responseWithSetCookieIsNotShared() {
+		StubUpstream upstream = new StubUpstream(HttpStatus.OK, HttpStatus.OK);
+		upstream.setCookie = true;
+		MockServerWebExchange follower = exchange("1");
+
+		filter.filter(exchange("1"), upstream).subscribe();
+		filter.filter(follower, upstream).subscribe();
+		upstream.release();
+
+		assertThat(upstream.calls.get()).isEqualTo(2);
+		assertThat(follower.getResponse().getBodyAsString().block()).isEqualTo("body-2");
+	}
+
+	@Test
+	void followerCallsUpstreamItselfWhenLeaderFails() {
+		StubUpstream upstream = new StubUpstream(HttpStatus.OK, HttpStatus.OK);
+		upstream.failFirst = true;
+		MockServerWebExchange follower = exchange("1");
+
+		filter.filter(exchange("1"), upstream).subscribe(null, e -> { });
+		filter.filter(follower, upstream).subscribe();
+		upstream.release();
+
+		assertThat(upstream.calls.get()).isEqualTo(2);
+		assertThat(follower.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+	}
+
+	@Test
+	void differentUsersAreNotMerged() {
+		StubUpstream upstream = new StubUpstream(HttpStatus.OK, HttpStatus.OK);
+		MockServerWebExchange first = exchange("1");
+		MockServerWebExchange second = exchange("2");
+
+		filter.filter(first, upstream).subscribe();
+		filter.filter(second, upstream).subscribe();
+		upstream.release();
+
+		assertThat(upstream.calls.get()).isEqualTo(2);
+		assertThat(first.getResponse().getBodyAsString().block()).isEqualTo("body-1");
+		assertThat(second.getResponse().getBodyAsString().block()).isEqualTo("body-2");
+		assertThat(second.getResponse().getHeaders())
+				.doesNotContainKey(SingleFlightGatewayFilterFactory.SINGLE_FLIGHT_HEADER);
+	}
+
+	private static GatewayFilter newFilter() {
+		SingleFlightGatewayFilterFactory factory = new SingleFlightGatewayFilterFactory(new SimpleMeterRegistry());
+		SingleFlightGatewayFilterFactory.Config config = new SingleFlightGatewayFilterFactory.Config();
+		config.setRouteId("auth-user");
+		return factory.apply(config);
+	}
+
+	// JwtAuthenticationFilter를 거친 사용자 요청
+	private static MockServerWebExchange exchange(String userId) {
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+				.get("/auth/kakao/user")
+				.header(HttpHeaders.AUTHORIZATION, "Bearer token-" + userId)
+				.header(JwtAuthenticationFilter.USER_ID_HEADER, userId));
+		exchange.getAttributes().put(JwtAuthenticationFilter.VERIFIED_TOKEN_ATTR,
+				new VerifiedToken(userId, null, "닉네임", Long.MAX_VALUE, null, null));
+		return exchange;
+	}
+
+	// release() 전까지 응답을 보류하는 upstream (호출 순서대로 상태 코드 사용)
+	private static class StubUpstream implements GatewayFilterChain {
+
+		private final Sinks.Empty<Void> gate = Sinks.empty();
+		private final Queue<HttpStatus> statuses;
+		private final AtomicInteger calls = new AtomicInteger();
+		private boolean setCookie;
+		private boolean failFirst;
+
+		StubUpstream(HttpStatus... statuses) {
+			this.statuses = new ArrayDeque<>(List.of(statuses));
+		}
+
+		void release() {
+			gate.tryEmitEmpty();
+		}
+
+		@Override
+		public Mono<Void> filter(ServerWebExchange exchange) {
+			int call = calls.incrementAndGet();
+			HttpStatus status = statuses.remove();
+			return gate.asMono().then(Mono.defer(() -> {
+				if (failFirst && call == 1) {
+					return Mono.error(new IllegalStateException("upstream reset"));
+				}
+				ServerHttpResponse response = exchange.getResponse();
+				response.setStatusCode(status);
+				if (setCookie) {
+					response.getHeaders().add(HttpHeaders.SET_COOKIE, "session=" + call);
+				}
+				byte[] body = ("body-" + call).getBytes(StandardCharsets.UTF_8);
+				response.getHeaders().setContentLength(body.length);
+				return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+			}));
+		}
+	}
+}
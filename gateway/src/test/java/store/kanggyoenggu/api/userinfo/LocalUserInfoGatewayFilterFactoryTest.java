@@ -0,0 +1,138 @@
+package store.kanggyoenggu.api.userinfo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.crypto.SecretKey;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import reactor.core.publisher.Mono;
+import store.kanggyoenggu.api.filter.JwtAuthenticationFilter;
+import store.kanggyoenggu.api.jwt.JwtProperties;
+import store.kanggyoenggu.api.jwt.JwtVerifier;
+import store.kanggyoenggu.api.jwt.VerifiedToken;
+
+class LocalUserInfoGatewayFilterFactoryTest {
+
+	private static final String SECRET = "local-user-info-test-secret-0123456789-abcdef";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final GatewayFilter filter = new LocalUserInfoGatewayFilterFactory(objectMapper)
+			.apply(new LocalUserInfoGatewayFilterFactory.Config());
+	private final JwtVerifier verifier = newVerifier();
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"평범한닉네임",
+			"따옴표\"와 역슬래시\\",
+			"줄바꿈\n탭\t제어\u0001\u001f문자",
+			"이모지 😀 악보 𝄞",
+			"</script><!--",
+			"줄 구분자\u2028단락 구분자\u2029"
+	})
+	void standardProfileNicknameMatchesAuthServiceJson(String nickname) throws Exception {
+		String token = sign(Jwts.builder().subject("42").claim("kakaoId", 42L).claim("nickname", nickname));
+
+		MockServerWebExchange exchange = userInfoRequest("kakao", verifier.verify(token));
+		String body = serveLocally(exchange);
+
+		assertThat(body).isEqualTo(authServiceJson("42", 42L, nickname));
+		JsonNode user = objectMapper.readTree(body).get("user");
+		assertThat(user.get("nickname").asText()).isEqualTo(nickname);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"따옴표\"와 역슬래시\\",
+			"줄바꿈\n제어\u0000문자",
+			"이모지 😀 악보 𝄞"
+	})
+	void compactProfileNicknameMatchesAuthServiceJson(String nickname) throws Exception {
+		String kakaoToken = sign(Jwts.builder().subject("7").claim("p", "k").claim("n", nickname));
+		String naverToken = sign(Jwts.builder().subject("-1234").claim("p", "n").claim("n", nickname));
+
+		String kakaoBody = serveLocally(userInfoRequest("kakao", verifier.verify(kakaoToken)));
+		String naverBody = serveLocally(userInfoRequest("naver", verifier.verify(naverToken)));
+
+		assertThat(kakaoBody).isEqualTo(authServiceJson("7", 7L, nickname));
+		assertThat(naverBody).isEqualTo(authServiceJson("-1234", null, nickname));
+		assertThat(objectMapper.readTree(naverBody).get("user").get("nickname").asText()).isEqualTo(nickname);
+	}
+
+	@Test
+	void passesToUpstreamWithoutKakaoIdOrNickname() {
+		VerifiedToken withoutKakaoId = new VerifiedToken("7", null, "닉네임", Long.MAX_VALUE, null, "naver");
+		VerifiedToken withoutNickname = new VerifiedToken("7", 7L, null, Long.MAX_VALUE, null, "kakao");
+
+		assertThat(isForwarded(userInfoRequest("kakao", withoutKakaoId))).isTrue();
+		assertThat(isForwarded(userInfoRequest("kakao", withoutNickname))).isTrue();
+		assertThat(isForwarded(userInfoRequest("unknown", withoutKakaoId))).isTrue();
+		assertThat(isForwarded(userInfoRequest("naver", withoutKakaoId))).isFalse();
+	}
+
+	private String serveLocally(MockServerWebExchange exchange) {
+		assertThat(isForwarded(exchange)).isFalse();
+		assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(exchange.getResponse().getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+		return exchange.getResponse().getBodyAsString().block();
+	}
+
+	private boolean isForwarded(MockServerWebExchange exchange) {
+		boolean[] forwarded = {false};
+		filter.filter(exchange, forwardedExchange -> {
+			forwarded[0] = true;
+			return Mono.empty();
+		}).block();
+		return forwarded[0];
+	}
+
+	// Auth Service가 UserInfoResponse.success(...)를 직렬화한 결과 (같은 필드 순서)
+	private String authServiceJson(String id, Long kakaoId, String nickname) throws Exception {
+		Map<String, Object> user = new LinkedHashMap<>();
+		user.put("id", id);
+		user.put("kakaoId", kakaoId);
+		user.put("nickname", nickname);
+		Map<String, Object> response = new LinkedHashMap<>();
+		response.put("success", true);
+		response.put("message", "사용자 정보 조회 성공");
+		response.put("user", user);
+		return new String(objectMapper.writeValueAsBytes(response), StandardCharsets.UTF_8);
+	}
+
+	private static MockServerWebExchange userInfoRequest(String provider, VerifiedToken verified) {
+		MockServerWebExchange exchange = MockServerWebExchange.from(
+				MockServerHttpRequest.get("/auth/" + provider + "/user"));
+		exchange.getAttributes().put(JwtAuthenticationFilter.VERIFIED_TOKEN_ATTR, verified);
+		return exchange;
+	}
+
+	private static JwtVerifier newVerifier() {
+		JwtProperties properties = new JwtProperties();
+		properties.setSecret(SECRET);
+		return new JwtVerifier(properties, WebClient.builder());
+	}
+
+	private static String sign(JwtBuilder builder) {
+		SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+		return builder.expiration(new Date(System.currentTimeMillis() + 60_000)).signWith(key).compact();
+	}
+}
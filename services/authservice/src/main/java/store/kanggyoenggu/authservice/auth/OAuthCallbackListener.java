@@ -0,0 +1,22 @@
+package store.kanggyoenggu.authservice.auth;
+
+// 콜백 파이프라인 관찰자 (로깅, 메트릭 등)
+// 파이프라인이 단계마다 소요 시간을 측정해 전달하며, 구현체는 빈으로 등록하면 자동으로 연결됨
+public interface OAuthCallbackListener {
+
+    // 단계 완료 (success=false면 해당 단계에서 실패)
+    default void onStage(String provider, OAuthStage stage, long elapsedNanos, boolean success) {
+    }
+
+    // 콜백 실패 (프론트엔드로 error=reason 리다이렉트)
+    default void onFailure(String provider, String reason, Throwable cause) {
+    }
+
+    // 콜백 성공 (JWT 발급 후 리다이렉트)
+    default void onSuccess(String provider, long totalNanos) {
+    }
+
+    // 중복 콜백 (처리 중이거나 최근 성공한 같은 콜백의 결과를 공유)
+    default void onDuplicate(String provider) {
+    }
+}
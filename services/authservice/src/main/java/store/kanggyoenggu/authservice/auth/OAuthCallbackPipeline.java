@@ -0,0 +1,246 @@
+package store.kanggyoenggu.authservice.auth;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import reactor.core.publisher.Mono;
+import store.kanggyoenggu.authservice.jwt.JwtService;
+import store.kanggyoenggu.authservice.refresh.RefreshTokenCookies;
+import store.kanggyoenggu.authservice.refresh.RefreshTokenProperties;
+import store.kanggyoenggu.authservice.refresh.RefreshTokenStore;
+import store.kanggyoenggu.authservice.resilience.ProviderUnavailableException;
+import store.kanggyoenggu.authservice.state.OAuthStateService;
+
+// OAuth2 콜백 공통 파이프라인
+// state 검증 → 토큰 교환 → 사용자 식별 → JWT 발급 → 리다이렉트를 모든 제공자에 대해 한 곳에서 처리하고,
+// 각 단계의 소요 시간과 실패 사유를 OAuthCallbackListener로 전달 (요청 스레드에서 직접 출력하지 않음)
+// 같은 (제공자, code, state, binding) 콜백이 다시 들어오면 (브라우저/프록시 재전송)
+// 처리 중인 첫 요청의 결과를 함께 기다리고, 성공 결과는 dedup-ttl(수 초) 동안 캐시해 같은 리다이렉트로 응답
+// (인가 코드는 1회용이므로 두 번째 토큰 교환은 제공자에서 실패함)
+// - 캐시 조회는 state 서명/만료/브라우저 binding 검증을 통과한 뒤에만 수행하고, 키에 binding을 포함
+//   → 로그인을 시작한 브라우저만 JWT 리다이렉트와 Set-Cookie를 다시 받을 수 있음
+// - TTL이 지난 뒤 같은 URL을 다시 보내면 state 재사용으로 거절
+// 로그인 성공 시 refresh token을 HttpOnly 쿠키로 함께 발급 (/auth/token/refresh로 재로그인 없이 JWT 갱신)
+@Component
+public class OAuthCallbackPipeline {
+
+    public static final String MISSING_CODE = "missing_code";
+    public static final String LOGIN_FAILED = "login_failed";
+    public static final String UNSUPPORTED_PROVIDER = "unsupported_provider";
+    public static final String INVALID_STATE = "invalid_state";
+    public static final String PROVIDER_UNAVAILABLE = "provider_unavailable";
+    public static final String FRONTEND_CALLBACK_URL_NOT_CONFIGURED = "FRONTEND_CALLBACK_URL_NOT_CONFIGURED";
+
+    private final Map<String, OAuthProvider<?>> providers = new LinkedHashMap<>();
+    private final OAuthRedirects redirects;
+    private final JwtService jwtService;
+    private final OAuthStateService stateService;
+    private final RefreshTokenStore refreshTokenStore;
+    private final RefreshTokenCookies refreshTokenCookies;
+    private final boolean refreshTokenEnabled;
+    private final List<OAuthCallbackListener> listeners;
+    // 처리 중이거나 최근에 성공한 콜백 결과 (실패 결과는 완료 즉시 제거)
+    private final AsyncCache<CallbackKey, CallbackOutcome> callbacks;
+
+    public OAuthCallbackPipeline(
+            List<OAuthProvider<?>> providers,
+            JwtService jwtService,
+            OAuthStateService stateService,
+            RefreshTokenStore refreshTokenStore,
+            RefreshTokenCookies refreshTokenCookies,
+            RefreshTokenProperties refreshTokenProperties,
+            ObjectProvider<OAuthCallbackListener> listeners,
+            @Value("${frontend.callback-url}") String frontendCallbackUrl,
+            @Value("${oauth.callback.dedup-ttl:5s}") Duration dedupTtl,
+            @Value("${oauth.callback.dedup-max-size:10000}") long dedupMaxSize) {
+        this.jwtService = jwtService;
+        this.stateService = stateService;
+        this.refreshTokenStore = refreshTokenStore;
+        this.refreshTokenCookies = refreshTokenCookies;
+        this.refreshTokenEnabled = refreshTokenProperties.isEnabled();
+        this.listeners = listeners.orderedStream().toList();
+        // 리다이렉트 URL 접두사는 기동 시 한 번만 계산
+        this.redirects = new OAuthRedirects(frontendCallbackUrl);
+        this.callbacks = Caffeine.newBuilder()
+                .expireAfterWrite(dedupTtl)
+                .maximumSize(dedupMaxSize)
+                .buildAsync();
+
+        for (OAuthProvider<?> provider : providers) {
+            this.providers.put(provider.getName(), provider);
+        }
+    }
+
+    // 콜백 처리
+    // state: 로그인 URL 발급 시 넣은 서명된 state (OAuthStateService)
+    // binding: 로그인을 시작한 브라우저의 binding 쿠키 값 (state 서명에 포함)
+    // error: 제공자가 반환한 에러 (사용자가 동의를 거부한 경우 등)
+    public Mono<ResponseEntity<Void>> handle(
+            String providerName, String code, String state, String binding, String error,
+            String errorDescription) {
+        OAuthRedirects redirect = redirects;
+
+        // 제공자에서 에러를 반환한 경우
+        if (error != null) {
+            notifyFailure(providerName, error, null);
+            return Mono.just(errorDescription != null
+                    ? redirect.error(error, errorDescription)
+                    : redirect.error(error));
+        }
+
+        // code가 없는 경우 에러
+        if (code == null) {
+            return Mono.just(fail(providerName, redirect, MISSING_CODE, null));
+        }
+
+        OAuthProvider<?> provider = providers.get(providerName);
+        if (provider == null) {
+            return Mono.just(fail(providerName, redirect, UNSUPPORTED_PROVIDER, null));
+        }
+
+        // frontendCallbackUrl 유효성 검사
+        if (!redirect.isConfigured()) {
+            return Mono.just(fail(providerName, redirect, FRONTEND_CALLBACK_URL_NOT_CONFIGURED, null));
+        }
+
+        // 위조/만료되었거나 다른 브라우저에서 발급된 state는 제공자 호출 전에 거절 (CSRF)
+        // 중복 요청도 각자 검증하므로, 다른 브라우저가 콜백 결과를 받아 갈 수 없음
+        OAuthStateService.VerifiedState verifiedState = stateService.verify(providerName, state, binding);
+        if (verifiedState == null) {
+            return Mono.just(fail(providerName, redirect, INVALID_STATE, null));
+        }
+
+        // 같은 콜백이 처리 중이거나 최근에 성공했으면 그 결과를 공유 (state 재사용 검사보다 먼저)
+        CallbackKey key = new CallbackKey(providerName, code, state, binding);
+        boolean[] first = {false};
+        CompletableFuture<CallbackOutcome> outcome = callbacks.get(key, (k, executor) -> {
+            first[0] = true;
+            // 첫 요청만 state를 사용 처리 (TTL이 지난 뒤 같은 state가 다시 오면 재사용으로 거절)
+            // 요청이 취소되어도 대기 중인 중복 요청을 위해 끝까지 처리
+            Mono<CallbackOutcome> result = stateService.markUsed(verifiedState)
+                    ? process(provider, code, verifiedState.codeVerifier(), redirect)
+                    : Mono.just(new CallbackOutcome(fail(providerName, redirect, INVALID_STATE, null), false));
+            return result.toFuture();
+        });
+
+        if (first[0]) {
+            // 실패 결과는 캐시하지 않음 (대기 중인 중복 요청에만 전달)
+            outcome.thenAccept(result -> {
+                if (!result.success()) {
+                    callbacks.asMap().remove(key, outcome);
+                }
+            });
+        } else {
+            notifyDuplicate(providerName);
+        }
+        return Mono.fromFuture(outcome, true).map(CallbackOutcome::response);
+    }
+
+    private <T> Mono<CallbackOutcome> process(
+            OAuthProvider<T> provider, String code, String codeVerifier, OAuthRedirects redirect) {
+        String name = provider.getName();
+
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+
+            // 1. 제공자 토큰 교환
+            return timed(name, OAuthStage.TOKEN_EXCHANGE, Mono.defer(() -> provider.exchange(code, codeVerifier)))
+                    // 2. 사용자 식별
+                    .flatMap(tokenResponse -> timed(name, OAuthStage.USER_INFO,
+                            Mono.defer(() -> provider.identify(tokenResponse))))
+                    .map(identity -> {
+                        // 3. JWT 토큰 생성
+                        String jwtToken = timed(name, OAuthStage.JWT_SIGN,
+                                () -> jwtService.generateToken(
+                                        identity.provider(), identity.userId(), identity.nickname()));
+
+                        // 4. 프론트엔드로 리다이렉트 (토큰 포함, refresh token은 쿠키로)
+                        String refreshCookie = refreshTokenEnabled
+                                ? refreshTokenCookies.create(refreshTokenStore.issue(
+                                        identity.provider(), identity.userId(), identity.nickname()))
+                                : null;
+                        ResponseEntity<Void> response = timed(name, OAuthStage.REDIRECT,
+                                () -> redirect.success(jwtToken, refreshCookie));
+                        notifySuccess(name, System.nanoTime() - start);
+                        return new CallbackOutcome(response, true);
+                    })
+                    .switchIfEmpty(Mono.fromSupplier(
+                            () -> new CallbackOutcome(fail(name, redirect, LOGIN_FAILED, null), false)))
+                    // 에러 발생 시 프론트엔드로 리다이렉트 (로깅은 OAuthCallbackListener에서 처리)
+                    // 제공자 차단/대기열 초과/제한 시간 초과는 provider_unavailable로 구분
+                    .onErrorResume(e -> Mono.just(new CallbackOutcome(fail(name, redirect,
+                            ProviderUnavailableException.isCauseOf(e) ? PROVIDER_UNAVAILABLE : LOGIN_FAILED, e),
+                            false)));
+        });
+    }
+
+    private ResponseEntity<Void> fail(String provider, OAuthRedirects redirect, String reason, Throwable cause) {
+        notifyFailure(provider, reason, cause);
+        return redirect.error(reason);
+    }
+
+    // 비동기 단계 시간 측정
+    private <R> Mono<R> timed(String provider, OAuthStage stage, Mono<R> source) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return source
+                    .doOnSuccess(value -> notifyStage(provider, stage, System.nanoTime() - start, value != null))
+                    .doOnError(e -> notifyStage(provider, stage, System.nanoTime() - start, false));
+        });
+    }
+
+    // 동기 단계 시간 측정
+    private <R> R timed(String provider, OAuthStage stage, Supplier<R> step) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            R result = step.get();
+            success = true;
+            return result;
+        } finally {
+            notifyStage(provider, stage, System.nanoTime() - start, success);
+        }
+    }
+
+    private void notifyStage(String provider, OAuthStage stage, long elapsedNanos, boolean success) {
+        for (OAuthCallbackListener listener : listeners) {
+            listener.onStage(provider, stage, elapsedNanos, success);
+        }
+    }
+
+    private void notifySuccess(String provider, long totalNanos) {
+        for (OAuthCallbackListener listener : listeners) {
+            listener.onSuccess(provider, totalNanos);
+        }
+    }
+
+    private void notifyFailure(String provider, String reason, Throwable cause) {
+        for (OAuthCallbackListener listener : listeners) {
+            listener.onFailure(provider, reason, cause);
+        }
+    }
+
+    private void notifyDuplicate(String provider) {
+        for (OAuthCallbackListener listener : listeners) {
+            listener.onDuplicate(provider);
+        }
+    }
+
+    // 중복 콜백 판별 키 (state와 브라우저 binding까지 같아야 같은 로그인 시도로 간주)
+    private record CallbackKey(String provider, String code, String state, String binding) {
+    }
+
+    private record CallbackOutcome(ResponseEntity<Void> response, boolean success) {
+    }
+}
@@ -0,0 +1,19 @@
+package store.kanggyoenggu.authservice.auth;
+
+// 제공자에서 확인한 사용자 식별 정보
+// userId: JWT에 넣는 숫자 ID (제공자 ID가 숫자가 아니면 해시값 사용)
+public record OAuthIdentity(String provider, String providerUserId, Long userId, String nickname) {
+
+    private static final String DEFAULT_NICKNAME = "사용자";
+
+    public static OAuthIdentity of(String provider, String providerUserId, String nickname) {
+        Long userId;
+        try {
+            userId = Long.parseLong(providerUserId);
+        } catch (NumberFormatException e) {
+            // 제공자 ID가 숫자가 아닌 경우 해시값 사용
+            userId = (long) providerUserId.hashCode();
+        }
+        return new OAuthIdentity(provider, providerUserId, userId, nickname != null ? nickname : DEFAULT_NICKNAME);
+    }
+}
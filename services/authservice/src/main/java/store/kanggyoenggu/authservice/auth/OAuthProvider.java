@@ -0,0 +1,21 @@
+package store.kanggyoenggu.authservice.auth;
+
+import reactor.core.publisher.Mono;
+
+// OAuth 제공자 SPI
+// 콜백 파이프라인(OAuthCallbackPipeline)은 제공자와 무관하게
+// 토큰 교환 → 사용자 식별 → JWT 발급 → 리다이렉트 순서로 처리하고,
+// 제공자별로 다른 부분(토큰 교환, 사용자 식별)만 이 인터페이스로 구현
+// T: 제공자 토큰 응답 타입
+public interface OAuthProvider<T> {
+
+    // 제공자 이름 (콜백 경로의 {provider}와 동일: kakao, naver, google)
+    String getName();
+
+    // 1. 인가 코드로 제공자 토큰 교환
+    // codeVerifier: PKCE code_verifier (PKCE를 쓰지 않으면 null)
+    Mono<T> exchange(String code, String codeVerifier);
+
+    // 2. 토큰 응답으로 사용자 식별 (id_token 검증 또는 사용자 정보 API)
+    Mono<OAuthIdentity> identify(T tokenResponse);
+}
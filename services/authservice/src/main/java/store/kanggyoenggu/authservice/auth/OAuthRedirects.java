@@ -0,0 +1,93 @@
+package store.kanggyoenggu.authservice.auth;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+// 프론트엔드 리다이렉트 응답 생성
+// 리다이렉트 URL 접두사("{callback-url}?token=", "{callback-url}?error=")와
+// 기본 URL 유효성 검사는 생성 시 한 번만 수행
+@Slf4j
+public class OAuthRedirects {
+
+    static final String DEFAULT_CALLBACK_URL = "http://localhost:3000/dashboard";
+    private static final URI INVALID_URL_FALLBACK = URI.create(DEFAULT_CALLBACK_URL + "?error=redirect_url_invalid");
+
+    private final boolean configured;
+    private final boolean valid;
+    private final String tokenPrefix;
+    private final String errorPrefix;
+
+    public OAuthRedirects(String frontendCallbackUrl) {
+        this.configured = frontendCallbackUrl != null && !frontendCallbackUrl.trim().isEmpty();
+
+        // baseUrl 유효성 검사 (미설정 시 기본값)
+        String baseUrl = configured ? frontendCallbackUrl : DEFAULT_CALLBACK_URL;
+        this.valid = isValidUri(baseUrl);
+        if (!configured) {
+            log.error("리다이렉트 URL(frontend.callback-url)이 설정되지 않았습니다.");
+        } else if (!valid) {
+            log.error("잘못된 리다이렉트 URL 형식: {}", baseUrl);
+        }
+
+        this.tokenPrefix = baseUrl + "?token=";
+        this.errorPrefix = baseUrl + "?error=";
+    }
+
+    // frontend.callback-url 설정 여부
+    public boolean isConfigured() {
+        return configured;
+    }
+
+    // 성공: 토큰 포함
+    public ResponseEntity<Void> success(String token) {
+        return found(tokenPrefix + URLEncoder.encode(token, StandardCharsets.UTF_8));
+    }
+
+    // 성공: 토큰 포함 + 쿠키 설정 (refresh token)
+    public ResponseEntity<Void> success(String token, String setCookie) {
+        ResponseEntity<Void> response = success(token);
+        if (setCookie == null) {
+            return response;
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.addAll(response.getHeaders());
+        headers.add(HttpHeaders.SET_COOKIE, setCookie);
+        return new ResponseEntity<>(headers, response.getStatusCode());
+    }
+
+    // 실패: 에러 포함
+    public ResponseEntity<Void> error(String error) {
+        return found(errorPrefix + URLEncoder.encode(error, StandardCharsets.UTF_8));
+    }
+
+    // 실패: 제공자가 반환한 에러와 설명 포함
+    public ResponseEntity<Void> error(String error, String errorDescription) {
+        return found(errorPrefix + URLEncoder.encode(error, StandardCharsets.UTF_8)
+                + "&error_description="
+                + URLEncoder.encode(errorDescription != null ? errorDescription : "", StandardCharsets.UTF_8));
+    }
+
+    private ResponseEntity<Void> found(String redirectUrl) {
+        // 기본 URL이 잘못된 경우 기본 에러 URL로 폴백
+        URI redirectUri = valid ? URI.create(redirectUrl) : INVALID_URL_FALLBACK;
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setLocation(redirectUri);
+        return new ResponseEntity<>(headers, HttpStatus.FOUND);
+    }
+
+    private static boolean isValidUri(String url) {
+        try {
+            URI.create(url);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package store.kanggyoenggu.authservice.auth;
+
+// 콜백 파이프라인 단계
+public enum OAuthStage {
+
+    // 인가 코드 → 제공자 토큰 교환
+    TOKEN_EXCHANGE("token_exchange"),
+
+    // 사용자 식별 (id_token 검증 또는 사용자 정보 API)
+    USER_INFO("user_info"),
+
+    // JWT 서명
+    JWT_SIGN("jwt_sign"),
+
+    // 프론트엔드 리다이렉트 생성
+    REDIRECT("redirect");
+
+    private final String tagValue;
+
+    OAuthStage(String tagValue) {
+        this.tagValue = tagValue;
+    }
+
+    public String getTagValue() {
+        return tagValue;
+    }
+}
@@ -0,0 +1,98 @@
+package store.kanggyoenggu.authservice.config;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+// 기동 시 OAuth 제공자 커넥션 미리 열기
+// ApplicationRunner가 끝난 뒤에 readiness가 ACCEPTING_TRAFFIC으로 바뀌므로,
+// 첫 로그인 요청이 DNS/TCP/TLS 비용을 치르지 않도록 트래픽 수신 전에 풀을 채워둠
+@Slf4j
+@Component
+public class OAuthConnectionWarmer implements ApplicationRunner {
+
+    private static final List<String> PROVIDERS = List.of(
+            OAuthHttpClientConfig.KAKAO,
+            OAuthHttpClientConfig.NAVER,
+            OAuthHttpClientConfig.GOOGLE);
+
+    private static final List<String> URI_KEYS = List.of("token-uri", "user-info-uri");
+
+    private final OAuthHttpClientConfig httpClientConfig;
+    private final OAuthHttpClientProperties properties;
+    private final Environment environment;
+
+    public OAuthConnectionWarmer(
+            OAuthHttpClientConfig httpClientConfig,
+            OAuthHttpClientProperties properties,
+            Environment environment) {
+        this.httpClientConfig = httpClientConfig;
+        this.properties = properties;
+        this.environment = environment;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        OAuthHttpClientProperties.Warmup warmup = properties.getWarmup();
+        if (!warmup.isEnabled()) {
+            return;
+        }
+
+        List<Mono<Void>> tasks = new ArrayList<>();
+        for (String provider : PROVIDERS) {
+            HttpClient httpClient = httpClientConfig.httpClient(provider);
+            Mono<Void> eventLoopWarmup = httpClient.warmup();
+
+            for (String origin : origins(provider)) {
+                Mono<Void> connections = Flux.range(0, warmup.getConnectionsPerHost())
+                        .flatMap(i -> openConnection(httpClient, origin))
+                        .then();
+                tasks.add(eventLoopWarmup.then(connections));
+            }
+        }
+
+        try {
+            Mono.when(tasks).block(warmup.getTimeout());
+        } catch (RuntimeException e) {
+            // 미리 열기 실패는 기동을 막지 않음 (첫 요청에서 연결)
+            log.warn("OAuth 제공자 커넥션 미리 열기 실패: {}", e.getMessage());
+        }
+    }
+
+    // 응답 본문을 버리고 커넥션만 풀에 반납
+    private Mono<Void> openConnection(HttpClient httpClient, String origin) {
+        return httpClient.head()
+                .uri(origin + "/")
+                .response()
+                .then()
+                .onErrorResume(e -> Mono.empty());
+    }
+
+    // 제공자 설정(token-uri, user-info-uri)에서 호출 대상 origin 목록 추출
+    private Set<String> origins(String provider) {
+        Set<String> origins = new LinkedHashSet<>();
+        for (String key : URI_KEYS) {
+            String value = environment.getProperty(provider + "." + key);
+            if (value == null || value.isBlank()) {
+                continue;
+            }
+            URI uri = URI.create(value);
+            if (uri.getScheme() != null && uri.getHost() != null) {
+                origins.add(uri.getScheme() + "://" + uri.getAuthority());
+            }
+        }
+        return origins;
+    }
+}
@@ -0,0 +1,101 @@
+package store.kanggyoenggu.authservice.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.netty.channel.ChannelOption;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import store.kanggyoenggu.authservice.resilience.ProviderGuards;
+
+// OAuth 제공자별 HTTP 클라이언트 설정
+// 제공자마다 전용 커넥션 풀(keep-alive, HTTP/2, DNS 캐시)을 두고 모든 호출이 공유
+// 풀 메트릭(reactor.netty.connection.provider.*)은 actuator metrics로 노출
+// 모든 호출은 제공자별 ProviderGuard(circuit breaker + bulkhead + 제한 시간)를 거침
+@Configuration
+public class OAuthHttpClientConfig {
+
+    public static final String KAKAO = "kakao";
+    public static final String NAVER = "naver";
+    public static final String GOOGLE = "google";
+
+    private final OAuthHttpClientProperties properties;
+    private final ProviderGuards providerGuards;
+
+    // 제공자별 HttpClient (커넥션 미리 열기에서 재사용)
+    private final Map<String, HttpClient> httpClients = new ConcurrentHashMap<>();
+
+    public OAuthHttpClientConfig(OAuthHttpClientProperties properties, ProviderGuards providerGuards) {
+        this.properties = properties;
+        this.providerGuards = providerGuards;
+    }
+
+    @Bean
+    public WebClient kakaoWebClient(WebClient.Builder webClientBuilder) {
+        return createWebClient(webClientBuilder, KAKAO);
+    }
+
+    @Bean
+    public WebClient naverWebClient(WebClient.Builder webClientBuilder) {
+        return createWebClient(webClientBuilder, NAVER);
+    }
+
+    @Bean
+    public WebClient googleWebClient(WebClient.Builder webClientBuilder) {
+        return createWebClient(webClientBuilder, GOOGLE);
+    }
+
+    // 제공자 이름으로 HttpClient 조회
+    public HttpClient httpClient(String provider) {
+        return httpClients.computeIfAbsent(provider, this::createHttpClient);
+    }
+
+    public Map<String, HttpClient> httpClients() {
+        return Map.copyOf(httpClients);
+    }
+
+    private WebClient createWebClient(WebClient.Builder webClientBuilder, String provider) {
+        WebClient.Builder builder = webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient(provider)));
+        if (providerGuards.isEnabled()) {
+            builder.filter(providerGuards.guard(provider));
+        }
+        return builder.build();
+    }
+
+    private HttpClient createHttpClient(String provider) {
+        OAuthHttpClientProperties.Pool pool = properties.forProvider(provider);
+        OAuthHttpClientProperties.Dns dns = properties.getDns();
+
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("oauth-" + provider)
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxLifeTime(pool.getMaxLifeTime())
+                .evictInBackground(pool.getMaxIdleTime())
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .keepAlive(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) pool.getConnectTimeout().toMillis())
+                .responseTimeout(pool.getResponseTimeout())
+                .resolver(spec -> spec
+                        .cacheMinTimeToLive(dns.getCacheMinTimeToLive())
+                        .cacheMaxTimeToLive(dns.getCacheMaxTimeToLive())
+                        .cacheNegativeTimeToLive(dns.getCacheNegativeTimeToLive()));
+
+        if (Boolean.TRUE.equals(pool.getHttp2())) {
+            // TLS ALPN으로 h2 협상, 제공자가 지원하지 않으면 HTTP/1.1 사용
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+        return httpClient;
+    }
+}
@@ -0,0 +1,125 @@
+package store.kanggyoenggu.authservice.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+// OAuth 제공자 호출용 HTTP 클라이언트 설정 Properties
+// defaults를 기본값으로 쓰고, providers.{kakao|naver|google}에 지정한 값만 덮어씀
+@Configuration
+@ConfigurationProperties(prefix = "oauth.http")
+@Getter
+@Setter
+public class OAuthHttpClientProperties {
+
+    // 제공자 공통 기본 설정
+    private Pool defaults = Pool.defaults();
+
+    // 제공자별 설정 (지정하지 않은 항목은 defaults 사용)
+    private Map<String, Pool> providers = new LinkedHashMap<>();
+
+    // DNS 캐시 설정
+    private Dns dns = new Dns();
+
+    // 기동 시 커넥션 미리 열기 설정
+    private Warmup warmup = new Warmup();
+
+    // 제공자별 최종 설정
+    public Pool forProvider(String provider) {
+        Pool override = providers.get(provider);
+        return override == null ? defaults : defaults.merge(override);
+    }
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        // 최대 커넥션 수
+        private Integer maxConnections;
+
+        // 커넥션 획득 대기 최대 요청 수
+        private Integer pendingAcquireMaxCount;
+
+        // 커넥션 획득 대기 시간
+        private Duration pendingAcquireTimeout;
+
+        // keep-alive 유휴 커넥션 유지 시간
+        private Duration maxIdleTime;
+
+        // 커넥션 최대 수명 (DNS 변경 반영을 위해 주기적으로 교체)
+        private Duration maxLifeTime;
+
+        // 연결 타임아웃
+        private Duration connectTimeout;
+
+        // 응답 타임아웃
+        private Duration responseTimeout;
+
+        // HTTP/2 사용 여부 (ALPN으로 협상, 미지원 시 HTTP/1.1)
+        private Boolean http2;
+
+        public Pool() {
+        }
+
+        static Pool defaults() {
+            Pool pool = new Pool();
+            pool.maxConnections = 50;
+            pool.pendingAcquireMaxCount = 500;
+            pool.pendingAcquireTimeout = Duration.ofSeconds(5);
+            pool.maxIdleTime = Duration.ofSeconds(30);
+            pool.maxLifeTime = Duration.ofMinutes(5);
+            pool.connectTimeout = Duration.ofSeconds(3);
+            pool.responseTimeout = Duration.ofSeconds(5);
+            pool.http2 = true;
+            return pool;
+        }
+
+        Pool merge(Pool override) {
+            Pool merged = new Pool();
+            merged.maxConnections = pick(override.maxConnections, maxConnections);
+            merged.pendingAcquireMaxCount = pick(override.pendingAcquireMaxCount, pendingAcquireMaxCount);
+            merged.pendingAcquireTimeout = pick(override.pendingAcquireTimeout, pendingAcquireTimeout);
+            merged.maxIdleTime = pick(override.maxIdleTime, maxIdleTime);
+            merged.maxLifeTime = pick(override.maxLifeTime, maxLifeTime);
+            merged.connectTimeout = pick(override.connectTimeout, connectTimeout);
+            merged.responseTimeout = pick(override.responseTimeout, responseTimeout);
+            merged.http2 = pick(override.http2, http2);
+            return merged;
+        }
+
+        private static <T> T pick(T value, T fallback) {
+            return value != null ? value : fallback;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Dns {
+
+        // 조회 결과 최소/최대 캐시 시간
+        private Duration cacheMinTimeToLive = Duration.ofSeconds(30);
+        private Duration cacheMaxTimeToLive = Duration.ofMinutes(5);
+
+        // 조회 실패 캐시 시간
+        private Duration cacheNegativeTimeToLive = Duration.ofSeconds(5);
+    }
+
+    @Getter
+    @Setter
+    public static class Warmup {
+
+        // 기동 시 커넥션 미리 열기 (readiness 전에 완료)
+        private boolean enabled = true;
+
+        // 호스트당 미리 열어둘 커넥션 수
+        private int connectionsPerHost = 2;
+
+        // 전체 미리 열기 최대 대기 시간 (초과 시 그대로 기동)
+        private Duration timeout = Duration.ofSeconds(5);
+    }
+}
@@ -1,25 +1,36 @@
 package store.kanggyoenggu.authservice.google;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import reactor.core.publisher.Mono;
+import store.kanggyoenggu.authservice.auth.OAuthCallbackPipeline;
 import store.kanggyoenggu.authservice.jwt.JwtService;
+import store.kanggyoenggu.authservice.logging.LogRedactor;
+import store.kanggyoenggu.authservice.refresh.RefreshTokenCookies;
+import store.kanggyoenggu.authservice.refresh.RefreshTokenStore;
 import store.kanggyoenggu.authservice.response.*;
+import store.kanggyoenggu.authservice.state.OAuthStateService;
 
-import java.net.URI;
+import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 
 // 구글 OAuth2 인증 컨트롤러 (Spring MVC)
+@Slf4j
 @RestController
 @RequestMapping("/auth/google")
 public class GoogleController {
 
-    private final GoogleOAuthService googleOAuthService;
+    private final OAuthCallbackPipeline callbackPipeline;
     private final JwtService jwtService;
+    private final OAuthStateService stateService;
+    private final RefreshTokenStore refreshTokenStore;
+    private final RefreshTokenCookies refreshTokenCookies;
 
     @Value("${google.client-id}")
     private String googleClientId;
@@ -30,12 +41,14 @@ public class GoogleController {
     @Value("${google.authorization-uri}")
     private String googleAuthorizationUri;
 
-    @Value("${frontend.callback-url}")
-    private String frontendCallbackUrl;
-
-    public GoogleController(GoogleOAuthService googleOAuthService, JwtService jwtService) {
-        this.googleOAuthService = googleOAuthService;
+    public GoogleController(
+            OAuthCallbackPipeline callbackPipeline, JwtService jwtService, OAuthStateService stateService,
+            RefreshTokenStore refreshTokenStore, RefreshTokenCookies refreshTokenCookies) {
+        this.callbackPipeline = callbackPipeline;
         this.jwtService = jwtService;
+        this.stateService = stateService;
+        this.refreshTokenStore = refreshTokenStore;
+        this.refreshTokenCookies = refreshTokenCookies;
     }
 
     // 구글 로그인 URL 생성
@@ -44,146 +57,35 @@ public class GoogleController {
     // 프론트엔드에서 받아서 처리
     // 로그인은 상태를 변경하는 작업이므로 POST 메서드 사용
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> googleLogin() {
+    public ResponseEntity<LoginResponse> googleLogin(
+            @CookieValue(name = OAuthStateService.BINDING_COOKIE, required = false) String binding) {
         String scope = "openid profile email";
+        // CSRF 방지용 서명된 state + PKCE(S256) code_challenge
+        OAuthStateService.IssuedState issued = stateService.issue("google", binding);
         String googleAuthUrl = String.format(
-                "%s?client_id=%s&redirect_uri=%s&response_type=code&scope=%s",
+                "%s?client_id=%s&redirect_uri=%s&response_type=code&scope=%s%s",
                 googleAuthorizationUri,
                 googleClientId,
                 URLEncoder.encode(googleRedirectUri, StandardCharsets.UTF_8),
-                URLEncoder.encode(scope, StandardCharsets.UTF_8));
+                URLEncoder.encode(scope, StandardCharsets.UTF_8),
+                issued.toQuery());
 
-        return ResponseEntity.ok(LoginResponse.success(googleAuthUrl));
+        // state는 이 브라우저의 binding 쿠키와 묶여 있어 다른 브라우저의 콜백에서는 검증되지 않음
+        return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, issued.bindingCookie())
+                .body(LoginResponse.success(googleAuthUrl));
     }
 
-    // 구글 OAuth2 콜백 처리 (동기 방식)
-    // GET /auth/google/callback?code=xxx (구글 표준)
+    // 구글 OAuth2 콜백 처리 (논블로킹, OAuthCallbackPipeline에 위임)
+    // GET /auth/google/callback?code=xxx
     @GetMapping("/callback")
-    public ResponseEntity<Void> googleCallback(@RequestParam(required = false) String code) {
-        // GET 방식 (구글 표준)
-        if (code != null) {
-            return processCallback(code);
-        }
-
-        // code가 없는 경우 에러
-        String errorUrl = String.format(
-                "%s?error=%s",
-                frontendCallbackUrl,
-                URLEncoder.encode("missing_code", StandardCharsets.UTF_8));
-        HttpHeaders headers = new HttpHeaders();
-        headers.setLocation(URI.create(errorUrl));
-        return new ResponseEntity<>(headers, HttpStatus.FOUND);
-    }
-
-    // 공통 콜백 처리 메서드
-    private ResponseEntity<Void> processCallback(String code) {
-        try {
-            // frontendCallbackUrl 유효성 검사
-            if (frontendCallbackUrl == null || frontendCallbackUrl.trim().isEmpty()) {
-                System.err.println("ERROR: frontend.callback-url이 설정되지 않았습니다.");
-                return createErrorResponse("FRONTEND_CALLBACK_URL_NOT_CONFIGURED");
-            }
-
-            // 1. 액세스 토큰 요청 (동기 처리)
-            GoogleTokenResponse tokenResponse = googleOAuthService.getAccessToken(code);
-            String accessToken = tokenResponse.getAccessToken();
-
-            // 구글 액세스 토큰 출력
-            System.out.println("Access Token: " + accessToken);
-
-            // 2. 사용자 정보 조회 (동기 처리)
-            GoogleUserInfo userInfo = googleOAuthService.getUserInfo(accessToken);
-
-            // 3. 구글 사용자 정보 추출
-            String googleId = userInfo.getId();
-            String name = userInfo.getName() != null ? userInfo.getName() : "사용자";
-            String nickname = name; // 구글은 별명이 없으므로 이름을 별명으로 사용
-            String profileImageUrl = userInfo.getPicture() != null ? userInfo.getPicture() : "없음";
-
-            // 4. JWT 토큰 생성 (구글 ID를 Long으로 변환 시도, 실패하면 String 사용)
-            Long userId;
-            try {
-                userId = Long.parseLong(googleId);
-            } catch (NumberFormatException e) {
-                // 구글 ID가 숫자가 아닌 경우 해시값 사용
-                userId = (long) googleId.hashCode();
-            }
-            String jwtToken = jwtService.generateToken(userId, nickname);
-
-            // 생성된 JWT 토큰 출력
-            System.out.println("JWT Token: " + jwtToken);
-
-            // 5. 프론트엔드로 리다이렉트 (토큰 포함)
-            return createRedirectResponse(frontendCallbackUrl, jwtToken, null);
-
-        } catch (Exception e) {
-            // 에러 로깅
-            System.err.println("ERROR: 콜백 처리 중 예외 발생: " + e.getMessage());
-            e.printStackTrace();
-
-            // 에러 발생 시 프론트엔드로 리다이렉트
-            return createRedirectResponse(frontendCallbackUrl, null, "login_failed");
-        }
-    }
-
-    // 안전한 리다이렉트 응답 생성
-    private ResponseEntity<Void> createRedirectResponse(String baseUrl, String token, String error) {
-        try {
-            // baseUrl 유효성 검사
-            if (baseUrl == null || baseUrl.trim().isEmpty()) {
-                System.err.println("ERROR: 리다이렉트 URL이 설정되지 않았습니다.");
-                baseUrl = "http://localhost:3000/dashboard"; // 기본값
-            }
-
-            // URL 생성
-            String redirectUrl;
-            if (token != null) {
-                // 성공: 토큰 포함
-                String encodedToken = URLEncoder.encode(token, StandardCharsets.UTF_8);
-                redirectUrl = String.format("%s?token=%s", baseUrl, encodedToken);
-            } else if (error != null) {
-                // 실패: 에러 포함
-                redirectUrl = String.format("%s?error=%s", baseUrl, URLEncoder.encode(error, StandardCharsets.UTF_8));
-            } else {
-                // 기본 리다이렉트
-                redirectUrl = baseUrl;
-            }
-
-            // URI 생성 및 검증
-            URI redirectUri;
-            try {
-                redirectUri = URI.create(redirectUrl);
-            } catch (IllegalArgumentException e) {
-                System.err.println("ERROR: 잘못된 리다이렉트 URL 형식: " + redirectUrl);
-                System.err.println("ERROR: " + e.getMessage());
-                // 기본 URL로 폴백
-                redirectUri = URI.create("http://localhost:3000/dashboard?error=redirect_url_invalid");
-            }
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setLocation(redirectUri);
-
-            return new ResponseEntity<>(headers, HttpStatus.FOUND);
-
-        } catch (Exception e) {
-            // 리다이렉트 생성 실패 시 기본 에러 응답
-            System.err.println("ERROR: 리다이렉트 응답 생성 실패: " + e.getMessage());
-            e.printStackTrace();
-
-            HttpHeaders headers = new HttpHeaders();
-            try {
-                headers.setLocation(URI.create("http://localhost:3000/dashboard?error=redirect_failed"));
-            } catch (Exception ex) {
-                System.err.println("ERROR: 기본 리다이렉트 URL도 실패: " + ex.getMessage());
-            }
-
-            return new ResponseEntity<>(headers, HttpStatus.INTERNAL_SERVER_ERROR);
-        }
-    }
-
-    // 에러 응답 생성
-    private ResponseEntity<Void> createErrorResponse(String errorMessage) {
-        return createRedirectResponse(frontendCallbackUrl, null, errorMessage);
+    public Mono<ResponseEntity<Void>> googleCallback(
+            @RequestParam(required = false) String code,
+            @RequestParam(required = false) String state,
+            @CookieValue(name = OAuthStateService.BINDING_COOKIE, required = false) String binding,
+            @RequestParam(required = false) String error,
+            @RequestParam(name = "error_description", required = false) String errorDescription) {
+        return callbackPipeline.handle("google", code, state, binding, error, errorDescription);
     }
 
     // 사용자 정보 조회
@@ -199,7 +101,7 @@ public class GoogleController {
         UserInfoResponse.UserData userData = new UserInfoResponse.UserData(
                 userId,
                 null, // 구글은 별도의 구글 ID 헤더가 없을 수 있음
-                nickname);
+                URLDecoder.decode(nickname, StandardCharsets.UTF_8)); // Gateway에서 UTF-8 URL 인코딩하여 전달
 
         return ResponseEntity.ok(UserInfoResponse.success(userData));
     }
@@ -209,7 +111,8 @@ public class GoogleController {
     // Authorization 헤더에 JWT 토큰을 포함하여 요청
     @PostMapping("/logout")
     public ResponseEntity<ApiResponse> logout(
-            @RequestHeader(value = "Authorization", required = false) String authorization) {
+            @RequestHeader(value = "Authorization", required = false) String authorization,
+            @CookieValue(name = RefreshTokenCookies.COOKIE_NAME, required = false) String refreshToken) {
         try {
             // Authorization 헤더 확인
             if (authorization == null || !authorization.startsWith("Bearer ")) {
@@ -228,12 +131,16 @@ public class GoogleController {
 
             // JWT 토큰 검증 완료 (파싱은 validateToken에서 이미 수행됨)
 
+            // 이 로그인에서 이어진 refresh token 모두 폐기 + 쿠키 삭제
+            refreshTokenStore.revoke(refreshToken);
+
             // 로그아웃 성공 응답
-            return ResponseEntity.ok(ApiResponse.success("로그아웃 성공"));
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.SET_COOKIE, refreshTokenCookies.clear())
+                    .body(ApiResponse.success("로그아웃 성공"));
 
         } catch (Exception e) {
-            System.err.println("ERROR: 로그아웃 처리 중 예외 발생: " + e.getMessage());
-            e.printStackTrace();
+            log.error("로그아웃 처리 중 예외 발생", LogRedactor.redact(e));
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("로그아웃 처리 중 오류가 발생했습니다."));
         }
@@ -0,0 +1,36 @@
+package store.kanggyoenggu.authservice.google;
+
+import org.springframework.stereotype.Component;
+
+import reactor.core.publisher.Mono;
+import store.kanggyoenggu.authservice.auth.OAuthIdentity;
+import store.kanggyoenggu.authservice.auth.OAuthProvider;
+
+// 구글 OAuth 제공자 (콜백 파이프라인용)
+@Component
+public class GoogleOAuthProvider implements OAuthProvider<GoogleTokenResponse> {
+
+    private final GoogleOAuthService googleOAuthService;
+
+    public GoogleOAuthProvider(GoogleOAuthService googleOAuthService) {
+        this.googleOAuthService = googleOAuthService;
+    }
+
+    @Override
+    public String getName() {
+        return "google";
+    }
+
+    @Override
+    public Mono<GoogleTokenResponse> exchange(String code, String codeVerifier) {
+        return googleOAuthService.getAccessToken(code, codeVerifier);
+    }
+
+    // id_token 로컬 검증, 실패 시 사용자 정보 API 호출
+    // 구글은 별명이 없으므로 이름을 별명으로 사용
+    @Override
+    public Mono<OAuthIdentity> identify(GoogleTokenResponse tokenResponse) {
+        return googleOAuthService.resolveUserInfo(tokenResponse)
+                .map(userInfo -> OAuthIdentity.of(getName(), userInfo.getId(), userInfo.getName()));
+    }
+}
@@ -1,5 +1,6 @@
 package store.kanggyoenggu.authservice.google;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -7,6 +8,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import store.kanggyoenggu.authservice.oidc.OidcIdTokenVerifier;
 
 import java.util.Map;
 
@@ -15,6 +18,7 @@ import java.util.Map;
 public class GoogleOAuthService {
 
     private final WebClient webClient;
+    private final OidcIdTokenVerifier idTokenVerifier;
 
     @Value("${google.client-id}")
     private String googleClientId;
@@ -25,52 +29,87 @@ public class GoogleOAuthService {
     @Value("${google.redirect-uri}")
     private String googleRedirectUri;
 
-    public GoogleOAuthService(WebClient.Builder webClientBuilder) {
-        this.webClient = webClientBuilder.build();
-    }
+    @Value("${google.token-uri}")
+    private String googleTokenUri;
+
+    @Value("${google.user-info-uri}")
+    private String googleUserInfoUri;
 
-    // 구글 인가 코드로 액세스 토큰 요청 (동기 방식)
-    public GoogleTokenResponse getAccessToken(String authorizationCode) {
-        String tokenUrl = "https://oauth2.googleapis.com/token";
+    @Value("${google.revoke-uri}")
+    private String googleRevokeUri;
 
+    // 제공자 전용 커넥션 풀을 사용하는 WebClient (OAuthHttpClientConfig)
+    public GoogleOAuthService(
+            @Qualifier("googleWebClient") WebClient webClient,
+            @Qualifier("googleIdTokenVerifier") OidcIdTokenVerifier idTokenVerifier) {
+        this.webClient = webClient;
+        this.idTokenVerifier = idTokenVerifier;
+    }
+
+    // 구글 인가 코드로 액세스 토큰 요청 (논블로킹)
+    // codeVerifier: PKCE code_verifier (없으면 null)
+    public Mono<GoogleTokenResponse> getAccessToken(String authorizationCode, String codeVerifier) {
         MultiValueMap<String, String> body = new LinkedMultiValueMap<>();
         body.add("grant_type", "authorization_code");
         body.add("client_id", googleClientId);
         body.add("client_secret", googleClientSecret);
         body.add("redirect_uri", googleRedirectUri);
         body.add("code", authorizationCode);
+        if (codeVerifier != null) {
+            body.add("code_verifier", codeVerifier);
+        }
 
         return webClient.post()
-                .uri(tokenUrl)
+                .uri(googleTokenUri)
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .bodyValue(body)
                 .retrieve()
-                .bodyToMono(GoogleTokenResponse.class)
-                .block(); // 동기 방식으로 변환
+                .bodyToMono(GoogleTokenResponse.class);
     }
 
-    // 액세스 토큰으로 구글 사용자 정보 조회 (동기 방식)
-    public GoogleUserInfo getUserInfo(String accessToken) {
-        String userInfoUrl = "https://www.googleapis.com/oauth2/v2/userinfo";
-
+    // 액세스 토큰으로 구글 사용자 정보 조회 (논블로킹)
+    public Mono<GoogleUserInfo> getUserInfo(String accessToken) {
         return webClient.get()
-                .uri(userInfoUrl)
+                .uri(googleUserInfoUri)
                 .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
                 .retrieve()
-                .bodyToMono(GoogleUserInfo.class)
-                .block(); // 동기 방식으로 변환
+                .bodyToMono(GoogleUserInfo.class);
+    }
+
+    // 토큰 응답으로 사용자 정보 확인 (논블로킹)
+    // id_token이 있으면 로컬에서 검증하여 사용자 정보 API 호출을 생략하고,
+    // 없거나 검증에 실패하면 사용자 정보 API로 폴백
+    public Mono<GoogleUserInfo> resolveUserInfo(GoogleTokenResponse tokenResponse) {
+        String idToken = tokenResponse.getIdToken();
+        if (idToken == null || !idTokenVerifier.isEnabled()) {
+            return getUserInfo(tokenResponse.getAccessToken());
+        }
+
+        return idTokenVerifier.verify(idToken)
+                .flatMap(claims -> {
+                    String name = claims.get("name", String.class);
+                    if (name == null) {
+                        // profile scope가 없어 이름이 없으면 사용자 정보 API 사용
+                        return Mono.<GoogleUserInfo>empty();
+                    }
+                    GoogleUserInfo userInfo = new GoogleUserInfo();
+                    userInfo.setId(claims.getSubject());
+                    userInfo.setName(name);
+                    userInfo.setPicture(claims.get("picture", String.class));
+                    return Mono.just(userInfo);
+                })
+                .onErrorResume(e -> Mono.empty())
+                .switchIfEmpty(Mono.defer(() -> getUserInfo(tokenResponse.getAccessToken())));
     }
 
     // 구글 로그아웃 (동기 방식)
     @SuppressWarnings("unchecked")
     public Map<String, Object> logout(String accessToken) {
-        String logoutUrl = "https://oauth2.googleapis.com/revoke";
-
         MultiValueMap<String, String> body = new LinkedMultiValueMap<>();
         body.add("token", accessToken);
 
         return webClient.post()
-                .uri(logoutUrl)
+                .uri(googleRevokeUri)
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .bodyValue(body)
                 .retrieve()
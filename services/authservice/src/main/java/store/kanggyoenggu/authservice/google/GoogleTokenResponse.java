@@ -20,6 +20,10 @@ public class GoogleTokenResponse {
     @JsonProperty("scope")
     private String scope;
 
+    // OIDC(openid scope) 사용 시 함께 발급되는 ID 토큰
+    @JsonProperty("id_token")
+    private String idToken;
+
     // Getters and Setters
     public String getAccessToken() {
         return accessToken;
@@ -60,4 +64,12 @@ public class GoogleTokenResponse {
     public void setScope(String scope) {
         this.scope = scope;
     }
+
+    public String getIdToken() {
+        return idToken;
+    }
+
+    public void setIdToken(String idToken) {
+        this.idToken = idToken;
+    }
 }
@@ -0,0 +1,30 @@
+package store.kanggyoenggu.authservice.jwt;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+// JWT 검증용 공개키 배포 (JWKS)
+// Gateway 등 검증 측은 이 공개키로만 검증하므로 서명 시크릿을 공유하지 않아도 됨
+// 키 교체 중에는 현재 키와 직전 키를 함께 노출
+@RestController
+public class JwksController {
+
+    private final JwtService jwtService;
+
+    public JwksController(JwtService jwtService) {
+        this.jwtService = jwtService;
+    }
+
+    // GET /auth/.well-known/jwks.json
+    @GetMapping("/auth/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(Map.of("keys", jwtService.publicJwks()));
+    }
+}
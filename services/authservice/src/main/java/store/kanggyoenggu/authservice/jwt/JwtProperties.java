@@ -12,9 +12,43 @@ import org.springframework.context.annotation.Configuration;
 @Setter
 public class JwtProperties {
 
-    // JWT Secret Key
+    // 서명 알고리즘 (HS256: 공유 시크릿, EDDSA/ES256: 개인키로 서명하고 공개키는 JWKS로 배포)
+    private Algorithm algorithm = Algorithm.HS256;
+
+    // JWT Secret Key (HS256)
     private String secret;
 
-    // JWT 만료 시간 (밀리초, 기본값: 24시간)
-    private Long expiration = 86400000L;
+    // 교체 직전 Secret Key (교체 후 기존 토큰 검증용, 선택)
+    private String previousSecret;
+
+    // 서명용 개인키 (EDDSA/ES256, PKCS#8 PEM 또는 Base64 DER)
+    // 비어 있으면 기동 시 새로 생성 (재시작하면 기존 토큰은 무효)
+    private String privateKey;
+
+    // 교체 직전 개인키 (공개키를 JWKS에 계속 노출해 기존 토큰 검증용, 선택)
+    private String previousPrivateKey;
+
+    // 토큰 헤더의 kid (비어 있으면 공개키 JWK thumbprint)
+    private String keyId;
+
+    // JWT 만료 시간 (밀리초, 기본값: 15분, 이후에는 refresh token으로 갱신)
+    private Long expiration = 900000L;
+
+    // 클레임 형태 (STANDARD: 기존 kakaoId/nickname/sub/iat, COMPACT: 짧은 클레임 이름 + 제공자 구분)
+    private Profile profile = Profile.STANDARD;
+
+    public enum Algorithm {
+        HS256,
+        // Ed25519
+        EDDSA,
+        // ECDSA P-256
+        ES256
+    }
+
+    public enum Profile {
+        // {"kakaoId", "nickname", "jti"(UUID), "sub", "iat", "exp"}
+        STANDARD,
+        // {"sub", "p"(제공자 k/n/g), "n"(닉네임), "jti"(16바이트 Base64URL), "exp"}
+        COMPACT
+    }
 }
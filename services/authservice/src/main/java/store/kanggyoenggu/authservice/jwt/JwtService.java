@@ -1,58 +1,120 @@
 package store.kanggyoenggu.authservice.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
 import io.jsonwebtoken.security.Keys;
-import org.springframework.beans.factory.annotation.Value;
+import io.jsonwebtoken.security.PrivateJwk;
+import io.jsonwebtoken.security.PublicJwk;
+import io.jsonwebtoken.security.SignatureException;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 // JWT 토큰 생성 및 검증 서비스
+// 서명 키와 파서(thread-safe)는 한 번만 만들어 재사용하고,
+// 시크릿/키 교체는 재시작으로 수행: 새 값은 jwt.secret / jwt.private-key, 기존 값은 jwt.previous-*에 두어 기존 토큰 검증
+// EDDSA/ES256 모드에서는 토큰 헤더에 kid를 넣고, 공개키는 JWKS(/auth/.well-known/jwks.json)로 배포
+// COMPACT 프로필은 짧은 클레임 이름과 제공자 구분(p)만 담아 요청마다 오가는 토큰 크기를 줄임
+@Slf4j
 @Service
 public class JwtService {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    // COMPACT 프로필 클레임 이름 (Gateway JwtVerifier와 동일)
+    public static final String PROVIDER_CLAIM = "p";
+    public static final String NICKNAME_CLAIM = "n";
 
-    @Value("${jwt.expiration}")
-    private Long jwtExpiration;
+    private static final SecureRandom TOKEN_ID_RANDOM = new SecureRandom();
 
-    private SecretKey getSecretKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    private final long jwtExpiration;
+    private final JwtProperties.Algorithm algorithm;
+    private final JwtProperties.Profile profile;
+
+    // 현재 서명 키 + 교체 직전 키 (교체 전에 발급된 토큰 검증용)
+    private final SigningKeys signingKeys;
+
+    public JwtService(JwtProperties jwtProperties) {
+        this.jwtExpiration = jwtProperties.getExpiration();
+        this.algorithm = jwtProperties.getAlgorithm();
+        this.profile = jwtProperties.getProfile();
+        this.signingKeys = algorithm == JwtProperties.Algorithm.HS256
+                ? new SigningKeys(
+                        KeyMaterial.of(jwtProperties.getSecret()),
+                        KeyMaterial.ofNullable(jwtProperties.getPreviousSecret()))
+                : new SigningKeys(
+                        KeyMaterial.asymmetric(algorithm, jwtProperties.getPrivateKey(), jwtProperties.getKeyId()),
+                        isBlank(jwtProperties.getPreviousPrivateKey())
+                                ? null
+                                : KeyMaterial.asymmetric(algorithm, jwtProperties.getPreviousPrivateKey(), null));
     }
 
-    // JWT 토큰 생성
+    // JWT 토큰 생성 (제공자를 알 수 없는 기존 호출, 카카오로 간주)
     public String generateToken(Long kakaoId, String nickname) {
-        SecretKey key = getSecretKey();
-
-        Date now = new Date();
-        Date expirationDate = new Date(now.getTime() + jwtExpiration);
-
-        return Jwts.builder()
-                .claim("kakaoId", kakaoId)
-                .claim("nickname", nickname)
-                .subject(kakaoId.toString())
-                .issuedAt(now)
-                .expiration(expirationDate)
-                .signWith(key)
+        return generateToken("kakao", kakaoId, nickname);
+    }
+
+    // JWT 토큰 생성
+    public String generateToken(String provider, Long userId, String nickname) {
+        KeyMaterial current = signingKeys.current();
+
+        long now = System.currentTimeMillis();
+
+        JwtBuilder builder = Jwts.builder();
+        if (current.keyId() != null) {
+            builder.header().keyId(current.keyId()).and();
+        }
+
+        if (profile == JwtProperties.Profile.COMPACT) {
+            // 사용자 ID는 sub에만, iat는 검증에 쓰이지 않으므로 생략
+            builder.subject(userId.toString())
+                    .claim(PROVIDER_CLAIM, providerCode(provider))
+                    .claim(NICKNAME_CLAIM, nickname)
+                    .id(compactTokenId());
+        } else {
+            builder.claim("kakaoId", userId)
+                    .claim("nickname", nickname)
+                    .id(UUID.randomUUID().toString()) // 로그아웃 시 Gateway 폐기 목록의 키 (jti)
+                    .subject(userId.toString())
+                    .issuedAt(new Date(now));
+        }
+
+        return builder
+                .expiration(new Date(now + jwtExpiration))
+                .signWith(current.signingKey())
                 .compact();
     }
 
     // JWT 토큰 파싱 및 검증
     public Map<String, Object> parseToken(String token) {
-        SecretKey key = getSecretKey();
+        SigningKeys keys = signingKeys;
 
-        Claims claims = Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims;
+        try {
+            return parseClaims(keys.current().parser(), token);
+        } catch (SignatureException e) {
+            // 교체 직후에는 이전 키로 서명된 토큰도 허용
+            if (keys.previous() == null) {
+                throw e;
+            }
+            return parseClaims(keys.previous().parser(), token);
+        }
     }
 
     // JWT 토큰 유효성 검증
@@ -64,4 +126,104 @@ public class JwtService {
             return false;
         }
     }
+
+    // 토큰 유효 시간 (밀리초)
+    public long getExpiration() {
+        return jwtExpiration;
+    }
+
+    // 검증용 공개키 목록 (JWKS keys, HS256 모드에서는 비어 있음)
+    public List<Map<String, ?>> publicJwks() {
+        SigningKeys keys = signingKeys;
+        List<Map<String, ?>> jwks = new ArrayList<>(2);
+        if (keys.current().publicJwk() != null) {
+            jwks.add(keys.current().publicJwk());
+        }
+        if (keys.previous() != null && keys.previous().publicJwk() != null) {
+            jwks.add(keys.previous().publicJwk());
+        }
+        return jwks;
+    }
+
+    // 제공자 구분 코드 (kakao → k, naver → n, google → g, 그 외는 이름 그대로)
+    static String providerCode(String provider) {
+        return switch (provider) {
+            case "kakao" -> "k";
+            case "naver" -> "n";
+            case "google" -> "g";
+            default -> provider;
+        };
+    }
+
+    // 16바이트 난수 jti (UUID 문자열 36자 → 22자)
+    private static String compactTokenId() {
+        byte[] bytes = new byte[16];
+        TOKEN_ID_RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private Claims parseClaims(JwtParser parser, String token) {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    // 서명 키 하나에 대한 키 ID, 서명 키, 파서, 공개 JWK (HS256이면 keyId/publicJwk는 null)
+    private record KeyMaterial(String keyId, Key signingKey, JwtParser parser, PublicJwk<?> publicJwk) {
+
+        static KeyMaterial of(String secret) {
+            if (isBlank(secret)) {
+                throw new IllegalStateException("jwt.secret이 설정되지 않았습니다.");
+            }
+            SecretKey key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+            return new KeyMaterial(null, key, Jwts.parser().verifyWith(key).build(), null);
+        }
+
+        static KeyMaterial ofNullable(String secret) {
+            return isBlank(secret) ? null : of(secret);
+        }
+
+        static KeyMaterial asymmetric(JwtProperties.Algorithm algorithm, String encodedPrivateKey, String keyId) {
+            PrivateKey privateKey = isBlank(encodedPrivateKey)
+                    ? generate(algorithm)
+                    : decodePrivateKey(algorithm, encodedPrivateKey);
+
+            // 개인키에서 공개키를 도출하고, kid 미지정 시 공개키 thumbprint 사용
+            var builder = Jwks.builder().key(privateKey);
+            PrivateJwk<?, ?, ?> privateJwk = isBlank(keyId)
+                    ? builder.idFromThumbprint().build()
+                    : builder.id(keyId).build();
+            PublicJwk<?> publicJwk = privateJwk.toPublicJwk();
+            PublicKey publicKey = (PublicKey) publicJwk.toKey();
+
+            return new KeyMaterial(publicJwk.getId(), privateKey, Jwts.parser().verifyWith(publicKey).build(),
+                    publicJwk);
+        }
+
+        private static PrivateKey generate(JwtProperties.Algorithm algorithm) {
+            log.warn("jwt.private-key가 설정되지 않아 서명 키를 새로 생성합니다. 재시작하면 기존 토큰은 검증되지 않습니다.");
+            KeyPair keyPair = algorithm == JwtProperties.Algorithm.EDDSA
+                    ? Jwks.CRV.Ed25519.keyPair().build()
+                    : Jwts.SIG.ES256.keyPair().build();
+            return keyPair.getPrivate();
+        }
+
+        private static PrivateKey decodePrivateKey(JwtProperties.Algorithm algorithm, String encoded) {
+            String base64 = encoded
+                    .replaceAll("-----(BEGIN|END) PRIVATE KEY-----", "")
+                    .replaceAll("\\s", "");
+            try {
+                KeyFactory keyFactory = KeyFactory.getInstance(
+                        algorithm == JwtProperties.Algorithm.EDDSA ? "Ed25519" : "EC");
+                return keyFactory.generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(base64)));
+            } catch (GeneralSecurityException | IllegalArgumentException e) {
+                throw new IllegalStateException("jwt.private-key를 읽을 수 없습니다. (PKCS#8 " + algorithm + ")", e);
+            }
+        }
+    }
+
+    private record SigningKeys(KeyMaterial current, KeyMaterial previous) {
+    }
 }
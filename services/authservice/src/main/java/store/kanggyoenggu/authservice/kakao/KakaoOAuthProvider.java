@@ -0,0 +1,41 @@
+package store.kanggyoenggu.authservice.kakao;
+
+import org.springframework.stereotype.Component;
+
+import reactor.core.publisher.Mono;
+import store.kanggyoenggu.authservice.auth.OAuthIdentity;
+import store.kanggyoenggu.authservice.auth.OAuthProvider;
+
+// 카카오 OAuth 제공자 (콜백 파이프라인용)
+@Component
+public class KakaoOAuthProvider implements OAuthProvider<KakaoTokenResponse> {
+
+    private final KakaoOAuthService kakaoOAuthService;
+
+    public KakaoOAuthProvider(KakaoOAuthService kakaoOAuthService) {
+        this.kakaoOAuthService = kakaoOAuthService;
+    }
+
+    @Override
+    public String getName() {
+        return "kakao";
+    }
+
+    @Override
+    public Mono<KakaoTokenResponse> exchange(String code, String codeVerifier) {
+        return kakaoOAuthService.getAccessToken(code, codeVerifier);
+    }
+
+    // id_token 로컬 검증, 실패 시 사용자 정보 API 호출
+    @Override
+    public Mono<OAuthIdentity> identify(KakaoTokenResponse tokenResponse) {
+        return kakaoOAuthService.resolveUserInfo(tokenResponse)
+                .map(userInfo -> {
+                    KakaoUserInfo.KakaoAccount kakaoAccount = userInfo.getKakaoAccount();
+                    KakaoUserInfo.Profile profile = kakaoAccount != null ? kakaoAccount.getProfile() : null;
+                    String nickname = profile != null ? profile.getNickname() : null;
+
+                    return OAuthIdentity.of(getName(), String.valueOf(userInfo.getId()), nickname);
+                });
+    }
+}
@@ -1,5 +1,6 @@
 package store.kanggyoenggu.authservice.kakao;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -7,6 +8,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import store.kanggyoenggu.authservice.oidc.OidcIdTokenVerifier;
 
 import java.util.Map;
 
@@ -15,6 +18,7 @@ import java.util.Map;
 public class KakaoOAuthService {
 
     private final WebClient webClient;
+    private final OidcIdTokenVerifier idTokenVerifier;
 
     @Value("${kakao.rest-api-key}")
     private String kakaoRestApiKey;
@@ -25,52 +29,96 @@ public class KakaoOAuthService {
     @Value("${kakao.client-secret:}")
     private String kakaoClientSecret;
 
-    public KakaoOAuthService(WebClient.Builder webClientBuilder) {
-        this.webClient = webClientBuilder.build();
-    }
+    @Value("${kakao.token-uri}")
+    private String kakaoTokenUri;
+
+    @Value("${kakao.user-info-uri}")
+    private String kakaoUserInfoUri;
+
+    @Value("${kakao.logout-uri}")
+    private String kakaoLogoutUri;
+
+    @Value("${kakao.unlink-uri}")
+    private String kakaoUnlinkUri;
 
-    // 카카오 인가 코드로 액세스 토큰 요청 (동기 방식)
-    public KakaoTokenResponse getAccessToken(String authorizationCode) {
-        String tokenUrl = "https://kauth.kakao.com/oauth/token";
+    // 제공자 전용 커넥션 풀을 사용하는 WebClient (OAuthHttpClientConfig)
+    public KakaoOAuthService(
+            @Qualifier("kakaoWebClient") WebClient webClient,
+            @Qualifier("kakaoIdTokenVerifier") OidcIdTokenVerifier idTokenVerifier) {
+        this.webClient = webClient;
+        this.idTokenVerifier = idTokenVerifier;
+    }
 
+    // 카카오 인가 코드로 액세스 토큰 요청 (논블로킹)
+    // codeVerifier: PKCE code_verifier (없으면 null)
+    public Mono<KakaoTokenResponse> getAccessToken(String authorizationCode, String codeVerifier) {
         MultiValueMap<String, String> body = new LinkedMultiValueMap<>();
         body.add("grant_type", "authorization_code");
         body.add("client_id", kakaoRestApiKey);
         body.add("redirect_uri", kakaoRedirectUri);
         body.add("code", authorizationCode);
+        if (codeVerifier != null) {
+            body.add("code_verifier", codeVerifier);
+        }
 
         if (kakaoClientSecret != null && !kakaoClientSecret.isEmpty()) {
             body.add("client_secret", kakaoClientSecret);
         }
 
         return webClient.post()
-                .uri(tokenUrl)
+                .uri(kakaoTokenUri)
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .bodyValue(body)
                 .retrieve()
-                .bodyToMono(KakaoTokenResponse.class)
-                .block(); // 동기 방식으로 변환
+                .bodyToMono(KakaoTokenResponse.class);
     }
 
-    // 액세스 토큰으로 카카오 사용자 정보 조회 (동기 방식)
-    public KakaoUserInfo getUserInfo(String accessToken) {
-        String userInfoUrl = "https://kapi.kakao.com/v2/user/me";
-
+    // 액세스 토큰으로 카카오 사용자 정보 조회 (논블로킹)
+    public Mono<KakaoUserInfo> getUserInfo(String accessToken) {
         return webClient.get()
-                .uri(userInfoUrl)
+                .uri(kakaoUserInfoUri)
                 .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
                 .retrieve()
-                .bodyToMono(KakaoUserInfo.class)
-                .block(); // 동기 방식으로 변환
+                .bodyToMono(KakaoUserInfo.class);
+    }
+
+    // 토큰 응답으로 사용자 정보 확인 (논블로킹)
+    // OpenID Connect가 활성화되어 id_token이 있으면 로컬에서 검증하여 사용자 정보 API 호출을 생략하고,
+    // 없거나 검증에 실패하면 사용자 정보 API로 폴백
+    public Mono<KakaoUserInfo> resolveUserInfo(KakaoTokenResponse tokenResponse) {
+        String idToken = tokenResponse.getIdToken();
+        if (idToken == null || !idTokenVerifier.isEnabled()) {
+            return getUserInfo(tokenResponse.getAccessToken());
+        }
+
+        return idTokenVerifier.verify(idToken)
+                .flatMap(claims -> {
+                    String nickname = claims.get("nickname", String.class);
+                    if (nickname == null) {
+                        // 닉네임 동의 항목이 없으면 사용자 정보 API 사용
+                        return Mono.<KakaoUserInfo>empty();
+                    }
+                    KakaoUserInfo.Profile profile = new KakaoUserInfo.Profile();
+                    profile.setNickname(nickname);
+                    profile.setProfileImageUrl(claims.get("picture", String.class));
+
+                    KakaoUserInfo.KakaoAccount kakaoAccount = new KakaoUserInfo.KakaoAccount();
+                    kakaoAccount.setProfile(profile);
+
+                    KakaoUserInfo userInfo = new KakaoUserInfo();
+                    userInfo.setId(Long.parseLong(claims.getSubject()));
+                    userInfo.setKakaoAccount(kakaoAccount);
+                    return Mono.just(userInfo);
+                })
+                .onErrorResume(e -> Mono.empty())
+                .switchIfEmpty(Mono.defer(() -> getUserInfo(tokenResponse.getAccessToken())));
     }
 
     // 카카오 로그아웃 (동기 방식)
     @SuppressWarnings("unchecked")
     public Map<String, Object> logout(String accessToken) {
-        String logoutUrl = "https://kapi.kakao.com/v1/user/logout";
-
         return webClient.post()
-                .uri(logoutUrl)
+                .uri(kakaoLogoutUri)
                 .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
                 .retrieve()
                 .bodyToMono((Class<Map<String, Object>>) (Class<?>) Map.class)
@@ -80,10 +128,8 @@ public class KakaoOAuthService {
     // 카카오 연결 끊기 (회원 탈퇴) (동기 방식)
     @SuppressWarnings("unchecked")
     public Map<String, Object> unlink(String accessToken) {
-        String unlinkUrl = "https://kapi.kakao.com/v1/user/unlink";
-
         return webClient.post()
-                .uri(unlinkUrl)
+                .uri(kakaoUnlinkUri)
                 .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
                 .retrieve()
                 .bodyToMono((Class<Map<String, Object>>) (Class<?>) Map.class)
@@ -20,6 +20,10 @@ public class KakaoTokenResponse {
     @JsonProperty("scope")
     private String scope;
 
+    // OIDC(openid scope) 사용 시 함께 발급되는 ID 토큰
+    @JsonProperty("id_token")
+    private String idToken;
+
     @JsonProperty("refresh_token_expires_in")
     private Integer refreshTokenExpiresIn;
 
@@ -64,6 +68,14 @@ public class KakaoTokenResponse {
         this.scope = scope;
     }
 
+    public String getIdToken() {
+        return idToken;
+    }
+
+    public void setIdToken(String idToken) {
+        this.idToken = idToken;
+    }
+
     public Integer getRefreshTokenExpiresIn() {
         return refreshTokenExpiresIn;
     }
@@ -0,0 +1,33 @@
+package store.kanggyoenggu.authservice.logging;
+
+import java.time.Duration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+// 로그인 경로 로깅 설정 Properties
+@Configuration
+@ConfigurationProperties(prefix = "auth.logging")
+@Getter
+@Setter
+public class AuthLoggingProperties {
+
+    // 성공 이벤트 샘플링 비율 (0.0 ~ 1.0, 실패 이벤트는 항상 기록)
+    private double successSampleRate = 0.01;
+
+    // 같은 제공자/예외 종류의 스택 트레이스 최소 출력 간격 (그 사이에는 메시지만 기록)
+    private Duration stackTraceInterval = Duration.ofSeconds(30);
+
+    // 비동기 appender 설정 (logback-spring.xml에서 사용)
+    private Async async = new Async();
+
+    @Getter
+    @Setter
+    public static class Async {
+
+        // 링 버퍼 크기 (가득 차면 요청 스레드를 막지 않고 이벤트를 버림)
+        private int queueSize = 8192;
+    }
+}
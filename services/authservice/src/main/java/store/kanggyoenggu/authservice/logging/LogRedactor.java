@@ -0,0 +1,49 @@
+package store.kanggyoenggu.authservice.logging;
+
+import java.util.regex.Pattern;
+
+// 로그에 남기 전 자격 증명 마스킹
+// 토큰/인가 코드/클라이언트 시크릿 파라미터, Bearer 헤더, JWT 형태 문자열을 ***로 치환
+public final class LogRedactor {
+
+    static final String MASK = "***";
+
+    private static final Pattern SECRET_PARAM = Pattern.compile(
+            "(?i)\\b(access_token|refresh_token|id_token|token|code|client_secret|state)(\"?\\s*[=:]\\s*\"?)[^&\\s\",}]+");
+    private static final Pattern BEARER = Pattern.compile("(?i)\\bBearer\\s+[\\w.~+/-]+=*");
+    private static final Pattern JWT = Pattern.compile("\\beyJ[\\w-]+\\.[\\w-]+\\.[\\w-]*");
+
+    private LogRedactor() {
+    }
+
+    public static String redact(String value) {
+        if (value == null || value.isEmpty()) {
+            return value;
+        }
+        String redacted = JWT.matcher(value).replaceAll(MASK);
+        redacted = BEARER.matcher(redacted).replaceAll("Bearer " + MASK);
+        return SECRET_PARAM.matcher(redacted).replaceAll("$1$2" + MASK);
+    }
+
+    // 예외 메시지를 마스킹한 사본 (스택 트레이스와 cause 체인은 유지)
+    public static Throwable redact(Throwable throwable) {
+        if (throwable == null) {
+            return null;
+        }
+        RedactedException copy = new RedactedException(
+                throwable.getClass().getName() + ": " + redact(throwable.getMessage()),
+                throwable.getCause() != null && throwable.getCause() != throwable
+                        ? redact(throwable.getCause())
+                        : null);
+        copy.setStackTrace(throwable.getStackTrace());
+        return copy;
+    }
+
+    // 원래 예외 클래스 이름은 메시지 앞에 붙여 보존
+    static final class RedactedException extends RuntimeException {
+
+        RedactedException(String message, Throwable cause) {
+            super(message, cause, false, true);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package store.kanggyoenggu.authservice.logging;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import store.kanggyoenggu.authservice.auth.OAuthCallbackListener;
+import store.kanggyoenggu.authservice.auth.OAuthStage;
+
+// 콜백 파이프라인 구조화 로깅
+// provider, stage, duration_ms, reason을 키-값 필드로 남기고 (logback-spring.xml의 비동기 appender로 출력),
+// 성공 이벤트는 샘플링, 예외 스택 트레이스는 빈도 제한, 메시지는 자격 증명 마스킹
+@Slf4j
+@Component
+public class OAuthLoggingListener implements OAuthCallbackListener {
+
+    private final double successSampleRate;
+    private final StackTraceThrottle stackTraceThrottle;
+
+    public OAuthLoggingListener(AuthLoggingProperties properties) {
+        this.successSampleRate = properties.getSuccessSampleRate();
+        this.stackTraceThrottle = new StackTraceThrottle(properties.getStackTraceInterval());
+    }
+
+    @Override
+    public void onStage(String provider, OAuthStage stage, long elapsedNanos, boolean success) {
+        if (success) {
+            if (log.isDebugEnabled() && sampled()) {
+                log.atDebug()
+                        .addKeyValue("provider", provider)
+                        .addKeyValue("stage", stage.getTagValue())
+                        .addKeyValue("duration_ms", toMillis(elapsedNanos))
+                        .log("OAuth 콜백 단계 완료");
+            }
+            return;
+        }
+        log.atWarn()
+                .addKeyValue("provider", provider)
+                .addKeyValue("stage", stage.getTagValue())
+                .addKeyValue("duration_ms", toMillis(elapsedNanos))
+                .log("OAuth 콜백 단계 실패");
+    }
+
+    @Override
+    public void onFailure(String provider, String reason, Throwable cause) {
+        if (!log.isWarnEnabled()) {
+            return;
+        }
+        var event = log.atWarn()
+                .addKeyValue("provider", provider)
+                .addKeyValue("reason", reason);
+
+        if (cause != null) {
+            event = event
+                    .addKeyValue("error_type", cause.getClass().getName())
+                    .addKeyValue("error_message", LogRedactor.redact(cause.getMessage()));
+            // 같은 예외가 반복되면 스택 트레이스는 interval마다 한 번만
+            if (stackTraceThrottle.tryAcquire(provider, cause)) {
+                event = event.setCause(LogRedactor.redact(cause));
+            }
+        }
+        event.log("OAuth 콜백 실패");
+    }
+
+    @Override
+    public void onSuccess(String provider, long totalNanos) {
+        if (log.isInfoEnabled() && sampled()) {
+            log.atInfo()
+                    .addKeyValue("provider", provider)
+                    .addKeyValue("duration_ms", toMillis(totalNanos))
+                    .addKeyValue("sample_rate", successSampleRate)
+                    .log("OAuth 콜백 성공");
+        }
+    }
+
+    private boolean sampled() {
+        return successSampleRate >= 1.0
+                || (successSampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < successSampleRate);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,33 @@
+package store.kanggyoenggu.authservice.logging;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 스택 트레이스 출력 빈도 제한
+// 같은 키(제공자 + 예외 종류)에 대해 interval마다 한 번만 허용 (락 없이 CAS로 판정)
+class StackTraceThrottle {
+
+    private final long intervalNanos;
+    private final Map<String, AtomicLong> lastPrinted = new ConcurrentHashMap<>();
+
+    StackTraceThrottle(Duration interval) {
+        this.intervalNanos = interval.toNanos();
+    }
+
+    boolean tryAcquire(String provider, Throwable cause) {
+        if (intervalNanos <= 0) {
+            return true;
+        }
+        String key = provider + ':' + cause.getClass().getName();
+        AtomicLong last = lastPrinted.computeIfAbsent(key, k -> new AtomicLong(Long.MIN_VALUE));
+
+        long now = System.nanoTime();
+        long previous = last.get();
+        if (previous != Long.MIN_VALUE && now - previous < intervalNanos) {
+            return false;
+        }
+        return last.compareAndSet(previous, now);
+    }
+}
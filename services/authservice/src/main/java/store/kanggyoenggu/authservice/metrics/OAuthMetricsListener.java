@@ -0,0 +1,131 @@
+package store.kanggyoenggu.authservice.metrics;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import store.kanggyoenggu.authservice.auth.OAuthCallbackListener;
+import store.kanggyoenggu.authservice.auth.OAuthCallbackPipeline;
+import store.kanggyoenggu.authservice.auth.OAuthProvider;
+import store.kanggyoenggu.authservice.auth.OAuthStage;
+
+// 콜백 파이프라인 Micrometer 메트릭
+// - auth.oauth.stage: 단계별 소요 시간 (provider, stage, outcome 태그, p50/p95/p99)
+// - auth.oauth.callback: 콜백 전체 소요 시간 (성공만)
+// - auth.oauth.failures: 실패 사유별 횟수 (provider, reason 태그)
+// 요청 경로에서 미터 조회 비용이 없도록 제공자 × 단계 × 결과 조합은 기동 시 미리 등록
+@Component
+public class OAuthMetricsListener implements OAuthCallbackListener {
+
+    static final String STAGE_TIMER = "auth.oauth.stage";
+    static final String CALLBACK_TIMER = "auth.oauth.callback";
+    static final String FAILURE_COUNTER = "auth.oauth.failures";
+    static final String DUPLICATE_COUNTER = "auth.oauth.callback.duplicates";
+
+    // 태그 카디널리티 제한: 등록되지 않은 제공자, 제공자가 반환한 임의의 에러 코드는 하나로 묶음
+    static final String UNKNOWN_PROVIDER = "unknown";
+    static final String PROVIDER_ERROR = "provider_error";
+
+    private static final Set<String> KNOWN_REASONS = Set.of(
+            OAuthCallbackPipeline.MISSING_CODE,
+            OAuthCallbackPipeline.LOGIN_FAILED,
+            OAuthCallbackPipeline.UNSUPPORTED_PROVIDER,
+            OAuthCallbackPipeline.INVALID_STATE,
+            OAuthCallbackPipeline.PROVIDER_UNAVAILABLE,
+            OAuthCallbackPipeline.FRONTEND_CALLBACK_URL_NOT_CONFIGURED);
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final MeterRegistry registry;
+    private final Map<String, ProviderMeters> meters = new HashMap<>();
+    private final Map<String, Counter> failureCounters = new ConcurrentHashMap<>();
+
+    public OAuthMetricsListener(MeterRegistry registry, List<OAuthProvider<?>> providers) {
+        this.registry = registry;
+        for (OAuthProvider<?> provider : providers) {
+            meters.put(provider.getName(), new ProviderMeters(registry, provider.getName()));
+        }
+        meters.put(UNKNOWN_PROVIDER, new ProviderMeters(registry, UNKNOWN_PROVIDER));
+    }
+
+    @Override
+    public void onStage(String provider, OAuthStage stage, long elapsedNanos, boolean success) {
+        meters(provider).stageTimer(stage, success).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onFailure(String provider, String reason, Throwable cause) {
+        String providerTag = meters.containsKey(provider) ? provider : UNKNOWN_PROVIDER;
+        String reasonTag = KNOWN_REASONS.contains(reason) ? reason : PROVIDER_ERROR;
+
+        failureCounters.computeIfAbsent(providerTag + ':' + reasonTag, key -> Counter.builder(FAILURE_COUNTER)
+                        .description("OAuth 콜백 실패 횟수")
+                        .tag("provider", providerTag)
+                        .tag("reason", reasonTag)
+                        .register(registry))
+                .increment();
+    }
+
+    @Override
+    public void onSuccess(String provider, long totalNanos) {
+        meters(provider).callbackTimer.record(totalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onDuplicate(String provider) {
+        meters(provider).duplicateCounter.increment();
+    }
+
+    private ProviderMeters meters(String provider) {
+        ProviderMeters providerMeters = meters.get(provider);
+        return providerMeters != null ? providerMeters : meters.get(UNKNOWN_PROVIDER);
+    }
+
+    // 제공자 하나의 타이머 묶음
+    private static final class ProviderMeters {
+
+        private final Map<OAuthStage, Timer> success = new EnumMap<>(OAuthStage.class);
+        private final Map<OAuthStage, Timer> failure = new EnumMap<>(OAuthStage.class);
+        private final Timer callbackTimer;
+        private final Counter duplicateCounter;
+
+        ProviderMeters(MeterRegistry registry, String provider) {
+            for (OAuthStage stage : OAuthStage.values()) {
+                success.put(stage, stageTimer(registry, provider, stage, "success"));
+                failure.put(stage, stageTimer(registry, provider, stage, "failure"));
+            }
+            this.callbackTimer = Timer.builder(CALLBACK_TIMER)
+                    .description("OAuth 콜백 전체 소요 시간")
+                    .tag("provider", provider)
+                    .publishPercentiles(PERCENTILES)
+                    .register(registry);
+            this.duplicateCounter = Counter.builder(DUPLICATE_COUNTER)
+                    .description("처리 중이거나 최근 성공한 콜백의 결과를 공유한 중복 콜백 수")
+                    .tag("provider", provider)
+                    .register(registry);
+        }
+
+        Timer stageTimer(OAuthStage stage, boolean succeeded) {
+            return succeeded ? success.get(stage) : failure.get(stage);
+        }
+
+        private static Timer stageTimer(MeterRegistry registry, String provider, OAuthStage stage, String outcome) {
+            return Timer.builder(STAGE_TIMER)
+                    .description("OAuth 콜백 단계별 소요 시간")
+                    .tag("provider", provider)
+                    .tag("stage", stage.getTagValue())
+                    .tag("outcome", outcome)
+                    .publishPercentiles(PERCENTILES)
+                    .register(registry);
+        }
+    }
+}
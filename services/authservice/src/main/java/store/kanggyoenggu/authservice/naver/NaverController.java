@@ -1,25 +1,36 @@
 package store.kanggyoenggu.authservice.naver;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import reactor.core.publisher.Mono;
+import store.kanggyoenggu.authservice.auth.OAuthCallbackPipeline;
 import store.kanggyoenggu.authservice.jwt.JwtService;
+import store.kanggyoenggu.authservice.logging.LogRedactor;
+import store.kanggyoenggu.authservice.refresh.RefreshTokenCookies;
+import store.kanggyoenggu.authservice.refresh.RefreshTokenStore;
 import store.kanggyoenggu.authservice.response.*;
+import store.kanggyoenggu.authservice.state.OAuthStateService;
 
-import java.net.URI;
+import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 
 // 네이버 OAuth2 인증 컨트롤러 (Spring MVC)
+@Slf4j
 @RestController
 @RequestMapping("/auth/naver")
 public class NaverController {
 
-    private final NaverOAuthService naverOAuthService;
+    private final OAuthCallbackPipeline callbackPipeline;
     private final JwtService jwtService;
+    private final OAuthStateService stateService;
+    private final RefreshTokenStore refreshTokenStore;
+    private final RefreshTokenCookies refreshTokenCookies;
 
     @Value("${naver.client-id}")
     private String naverClientId;
@@ -30,12 +41,14 @@ public class NaverController {
     @Value("${naver.authorization-uri}")
     private String naverAuthorizationUri;
 
-    @Value("${frontend.callback-url}")
-    private String frontendCallbackUrl;
-
-    public NaverController(NaverOAuthService naverOAuthService, JwtService jwtService) {
-        this.naverOAuthService = naverOAuthService;
+    public NaverController(
+            OAuthCallbackPipeline callbackPipeline, JwtService jwtService, OAuthStateService stateService,
+            RefreshTokenStore refreshTokenStore, RefreshTokenCookies refreshTokenCookies) {
+        this.callbackPipeline = callbackPipeline;
         this.jwtService = jwtService;
+        this.stateService = stateService;
+        this.refreshTokenStore = refreshTokenStore;
+        this.refreshTokenCookies = refreshTokenCookies;
     }
 
     // 네이버 로그인 URL 생성
@@ -44,140 +57,33 @@ public class NaverController {
     // 프론트엔드에서 받아서 처리
     // 로그인은 상태를 변경하는 작업이므로 POST 메서드 사용
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> naverLogin() {
-        // 네이버는 state 파라미터를 권장하지만 필수는 아님
-        String state = "STATE"; // 실제로는 랜덤 문자열 사용 권장
-
+    public ResponseEntity<LoginResponse> naverLogin(
+            @CookieValue(name = OAuthStateService.BINDING_COOKIE, required = false) String binding) {
+        // CSRF 방지용 서명된 state (네이버는 PKCE 미지원)
+        OAuthStateService.IssuedState issued = stateService.issue("naver", binding);
         String naverAuthUrl = String.format(
-                "%s?client_id=%s&redirect_uri=%s&response_type=code&state=%s",
+                "%s?client_id=%s&redirect_uri=%s&response_type=code%s",
                 naverAuthorizationUri,
                 naverClientId,
                 URLEncoder.encode(naverRedirectUri, StandardCharsets.UTF_8),
-                state);
+                issued.toQuery());
 
-        return ResponseEntity.ok(LoginResponse.success(naverAuthUrl));
+        // state는 이 브라우저의 binding 쿠키와 묶여 있어 다른 브라우저의 콜백에서는 검증되지 않음
+        return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, issued.bindingCookie())
+                .body(LoginResponse.success(naverAuthUrl));
     }
 
-    // 네이버 OAuth2 콜백 처리 (동기 방식)
-    // GET /auth/naver/callback?code=xxx&state=xxx (네이버 표준)
+    // 네이버 OAuth2 콜백 처리 (논블로킹, OAuthCallbackPipeline에 위임)
+    // GET /auth/naver/callback?code=xxx
     @GetMapping("/callback")
-    public ResponseEntity<Void> naverCallback(
+    public Mono<ResponseEntity<Void>> naverCallback(
             @RequestParam(required = false) String code,
-            @RequestParam(required = false) String state) {
-        // GET 방식 (네이버 표준)
-        if (code != null) {
-            return processCallback(code);
-        }
-
-        // code가 없는 경우 에러
-        String errorUrl = String.format(
-                "%s?error=%s",
-                frontendCallbackUrl,
-                URLEncoder.encode("missing_code", StandardCharsets.UTF_8));
-        HttpHeaders headers = new HttpHeaders();
-        headers.setLocation(URI.create(errorUrl));
-        return new ResponseEntity<>(headers, HttpStatus.FOUND);
-    }
-
-    // 공통 콜백 처리 메서드
-    private ResponseEntity<Void> processCallback(String code) {
-        try {
-            // 1. 액세스 토큰 요청 (동기 처리)
-            NaverTokenResponse tokenResponse = naverOAuthService.getAccessToken(code);
-            String accessToken = tokenResponse.getAccessToken();
-
-            // 네이버 액세스 토큰 출력
-            System.out.println("Access Token: " + accessToken);
-
-            // 2. 사용자 정보 조회 (동기 처리)
-            NaverUserInfo userInfo = naverOAuthService.getUserInfo(accessToken);
-
-            // 3. 네이버 사용자 정보 추출
-            NaverUserInfo.Response response = userInfo.getResponse();
-            String naverId = response.getId();
-            String nickname = response.getNickname() != null ? response.getNickname() : "사용자";
-            String name = response.getName() != null ? response.getName() : nickname;
-            String profileImageUrl = response.getProfile_image() != null ? response.getProfile_image() : "없음";
-
-            // 4. JWT 토큰 생성 (네이버 ID를 Long으로 변환 시도, 실패하면 String 사용)
-            Long userId;
-            try {
-                userId = Long.parseLong(naverId);
-            } catch (NumberFormatException e) {
-                // 네이버 ID가 숫자가 아닌 경우 해시값 사용
-                userId = (long) naverId.hashCode();
-            }
-            String jwtToken = jwtService.generateToken(userId, nickname);
-
-            // 생성된 JWT 토큰 출력
-            System.out.println("JWT Token: " + jwtToken);
-
-            // 5. 프론트엔드로 리다이렉트 (토큰 포함)
-            return createRedirectResponse(frontendCallbackUrl, jwtToken, null);
-
-        } catch (Exception e) {
-            // 에러 로깅
-            System.err.println("ERROR: 콜백 처리 중 예외 발생: " + e.getMessage());
-            e.printStackTrace();
-
-            // 에러 발생 시 프론트엔드로 리다이렉트
-            return createRedirectResponse(frontendCallbackUrl, null, "login_failed");
-        }
-    }
-
-    // 안전한 리다이렉트 응답 생성
-    private ResponseEntity<Void> createRedirectResponse(String baseUrl, String token, String error) {
-        try {
-            // baseUrl 유효성 검사
-            if (baseUrl == null || baseUrl.trim().isEmpty()) {
-                System.err.println("ERROR: 리다이렉트 URL이 설정되지 않았습니다.");
-                baseUrl = "http://localhost:3000/dashboard"; // 기본값
-            }
-
-            // URL 생성
-            String redirectUrl;
-            if (token != null) {
-                // 성공: 토큰 포함
-                String encodedToken = URLEncoder.encode(token, StandardCharsets.UTF_8);
-                redirectUrl = String.format("%s?token=%s", baseUrl, encodedToken);
-            } else if (error != null) {
-                // 실패: 에러 포함
-                redirectUrl = String.format("%s?error=%s", baseUrl, URLEncoder.encode(error, StandardCharsets.UTF_8));
-            } else {
-                // 기본 리다이렉트
-                redirectUrl = baseUrl;
-            }
-
-            // URI 생성 및 검증
-            URI redirectUri;
-            try {
-                redirectUri = URI.create(redirectUrl);
-            } catch (IllegalArgumentException e) {
-                System.err.println("ERROR: 잘못된 리다이렉트 URL 형식: " + redirectUrl);
-                System.err.println("ERROR: " + e.getMessage());
-                // 기본 URL로 폴백
-                redirectUri = URI.create("http://localhost:3000/dashboard?error=redirect_url_invalid");
-            }
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setLocation(redirectUri);
-
-            return new ResponseEntity<>(headers, HttpStatus.FOUND);
-
-        } catch (Exception e) {
-            // 리다이렉트 생성 실패 시 기본 에러 응답
-            System.err.println("ERROR: 리다이렉트 응답 생성 실패: " + e.getMessage());
-            e.printStackTrace();
-
-            HttpHeaders headers = new HttpHeaders();
-            try {
-                headers.setLocation(URI.create("http://localhost:3000/dashboard?error=redirect_failed"));
-            } catch (Exception ex) {
-                System.err.println("ERROR: 기본 리다이렉트 URL도 실패: " + ex.getMessage());
-            }
-
-            return new ResponseEntity<>(headers, HttpStatus.INTERNAL_SERVER_ERROR);
-        }
+            @RequestParam(required = false) String state,
+            @CookieValue(name = OAuthStateService.BINDING_COOKIE, required = false) String binding,
+            @RequestParam(required = false) String error,
+            @RequestParam(name = "error_description", required = false) String errorDescription) {
+        return callbackPipeline.handle("naver", code, state, binding, error, errorDescription);
     }
 
     // 사용자 정보 조회
@@ -193,7 +99,7 @@ public class NaverController {
         UserInfoResponse.UserData userData = new UserInfoResponse.UserData(
                 userId,
                 null, // 네이버는 별도의 네이버 ID 헤더가 없을 수 있음
-                nickname);
+                URLDecoder.decode(nickname, StandardCharsets.UTF_8)); // Gateway에서 UTF-8 URL 인코딩하여 전달
 
         return ResponseEntity.ok(UserInfoResponse.success(userData));
     }
@@ -203,7 +109,8 @@ public class NaverController {
     // Authorization 헤더에 JWT 토큰을 포함하여 요청
     @PostMapping("/logout")
     public ResponseEntity<ApiResponse> logout(
-            @RequestHeader(value = "Authorization", required = false) String authorization) {
+            @RequestHeader(value = "Authorization", required = false) String authorization,
+            @CookieValue(name = RefreshTokenCookies.COOKIE_NAME, required = false) String refreshToken) {
         try {
             // Authorization 헤더 확인
             if (authorization == null || !authorization.startsWith("Bearer ")) {
@@ -222,12 +129,16 @@ public class NaverController {
 
             // JWT 토큰 검증 완료 (파싱은 validateToken에서 이미 수행됨)
 
+            // 이 로그인에서 이어진 refresh token 모두 폐기 + 쿠키 삭제
+            refreshTokenStore.revoke(refreshToken);
+
             // 로그아웃 성공 응답
-            return ResponseEntity.ok(ApiResponse.success("로그아웃 성공"));
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.SET_COOKIE, refreshTokenCookies.clear())
+                    .body(ApiResponse.success("로그아웃 성공"));
 
         } catch (Exception e) {
-            System.err.println("ERROR: 로그아웃 처리 중 예외 발생: " + e.getMessage());
-            e.printStackTrace();
+            log.error("로그아웃 처리 중 예외 발생", LogRedactor.redact(e));
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("로그아웃 처리 중 오류가 발생했습니다."));
         }
@@ -0,0 +1,38 @@
+package store.kanggyoenggu.authservice.naver;
+
+import org.springframework.stereotype.Component;
+
+import reactor.core.publisher.Mono;
+import store.kanggyoenggu.authservice.auth.OAuthIdentity;
+import store.kanggyoenggu.authservice.auth.OAuthProvider;
+
+// 네이버 OAuth 제공자 (콜백 파이프라인용)
+@Component
+public class NaverOAuthProvider implements OAuthProvider<NaverTokenResponse> {
+
+    private final NaverOAuthService naverOAuthService;
+
+    public NaverOAuthProvider(NaverOAuthService naverOAuthService) {
+        this.naverOAuthService = naverOAuthService;
+    }
+
+    @Override
+    public String getName() {
+        return "naver";
+    }
+
+    @Override
+    public Mono<NaverTokenResponse> exchange(String code, String codeVerifier) {
+        return naverOAuthService.getAccessToken(code, codeVerifier);
+    }
+
+    // 네이버는 id_token이 없으므로 사용자 정보 API 호출
+    @Override
+    public Mono<OAuthIdentity> identify(NaverTokenResponse tokenResponse) {
+        return naverOAuthService.getUserInfo(tokenResponse.getAccessToken())
+                .map(userInfo -> {
+                    NaverUserInfo.Response response = userInfo.getResponse();
+                    return OAuthIdentity.of(getName(), response.getId(), response.getNickname());
+                });
+    }
+}
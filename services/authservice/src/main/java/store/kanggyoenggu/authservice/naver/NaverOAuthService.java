@@ -1,5 +1,6 @@
 package store.kanggyoenggu.authservice.naver;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -7,6 +8,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.util.Map;
 
@@ -25,47 +27,51 @@ public class NaverOAuthService {
     @Value("${naver.redirect-uri}")
     private String naverRedirectUri;
 
-    public NaverOAuthService(WebClient.Builder webClientBuilder) {
-        this.webClient = webClientBuilder.build();
-    }
+    @Value("${naver.token-uri}")
+    private String naverTokenUri;
+
+    @Value("${naver.user-info-uri}")
+    private String naverUserInfoUri;
 
-    // 네이버 인가 코드로 액세스 토큰 요청 (동기 방식)
-    public NaverTokenResponse getAccessToken(String authorizationCode) {
-        String tokenUrl = "https://nid.naver.com/oauth2.0/token";
+    // 제공자 전용 커넥션 풀을 사용하는 WebClient (OAuthHttpClientConfig)
+    public NaverOAuthService(@Qualifier("naverWebClient") WebClient webClient) {
+        this.webClient = webClient;
+    }
 
+    // 네이버 인가 코드로 액세스 토큰 요청 (논블로킹)
+    // codeVerifier: PKCE code_verifier (없으면 null)
+    public Mono<NaverTokenResponse> getAccessToken(String authorizationCode, String codeVerifier) {
         MultiValueMap<String, String> body = new LinkedMultiValueMap<>();
         body.add("grant_type", "authorization_code");
         body.add("client_id", naverClientId);
         body.add("client_secret", naverClientSecret);
         body.add("redirect_uri", naverRedirectUri);
         body.add("code", authorizationCode);
+        if (codeVerifier != null) {
+            body.add("code_verifier", codeVerifier);
+        }
 
         return webClient.post()
-                .uri(tokenUrl)
+                .uri(naverTokenUri)
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .bodyValue(body)
                 .retrieve()
-                .bodyToMono(NaverTokenResponse.class)
-                .block(); // 동기 방식으로 변환
+                .bodyToMono(NaverTokenResponse.class);
     }
 
-    // 액세스 토큰으로 네이버 사용자 정보 조회 (동기 방식)
-    public NaverUserInfo getUserInfo(String accessToken) {
-        String userInfoUrl = "https://openapi.naver.com/v1/nid/me";
-
+    // 액세스 토큰으로 네이버 사용자 정보 조회 (논블로킹)
+    public Mono<NaverUserInfo> getUserInfo(String accessToken) {
         return webClient.get()
-                .uri(userInfoUrl)
+                .uri(naverUserInfoUri)
                 .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
                 .retrieve()
-                .bodyToMono(NaverUserInfo.class)
-                .block(); // 동기 방식으로 변환
+                .bodyToMono(NaverUserInfo.class);
     }
 
     // 네이버 로그아웃 (동기 방식)
     @SuppressWarnings("unchecked")
     public Map<String, Object> logout(String accessToken) {
-        String logoutUrl = "https://nid.naver.com/oauth2.0/token";
-
+        // 네이버는 토큰 엔드포인트에 grant_type=delete로 토큰 삭제
         MultiValueMap<String, String> body = new LinkedMultiValueMap<>();
         body.add("grant_type", "delete");
         body.add("client_id", naverClientId);
@@ -74,7 +80,7 @@ public class NaverOAuthService {
         body.add("service_provider", "NAVER");
 
         return webClient.post()
-                .uri(logoutUrl)
+                .uri(naverTokenUri)
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .bodyValue(body)
                 .retrieve()
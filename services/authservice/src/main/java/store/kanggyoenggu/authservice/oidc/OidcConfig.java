@@ -0,0 +1,37 @@
+package store.kanggyoenggu.authservice.oidc;
+
+import java.time.Duration;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+// 제공자별 OIDC id_token 검증기 설정
+@Configuration
+public class OidcConfig {
+
+    @Bean
+    public OidcIdTokenVerifier googleIdTokenVerifier(
+            @Qualifier("googleWebClient") WebClient webClient,
+            @Value("${google.oidc.enabled:true}") boolean enabled,
+            @Value("${google.oidc.jwks-uri}") String jwksUri,
+            @Value("${google.oidc.issuers}") Set<String> issuers,
+            @Value("${google.client-id}") String clientId,
+            @Value("${oidc.jwks-refresh-interval:1h}") Duration refreshInterval) {
+        return new OidcIdTokenVerifier(enabled, webClient, jwksUri, issuers, clientId, refreshInterval);
+    }
+
+    @Bean
+    public OidcIdTokenVerifier kakaoIdTokenVerifier(
+            @Qualifier("kakaoWebClient") WebClient webClient,
+            @Value("${kakao.oidc.enabled:true}") boolean enabled,
+            @Value("${kakao.oidc.jwks-uri}") String jwksUri,
+            @Value("${kakao.oidc.issuers}") Set<String> issuers,
+            @Value("${kakao.rest-api-key}") String restApiKey,
+            @Value("${oidc.jwks-refresh-interval:1h}") Duration refreshInterval) {
+        return new OidcIdTokenVerifier(enabled, webClient, jwksUri, issuers, restApiKey, refreshInterval);
+    }
+}
@@ -0,0 +1,85 @@
+package store.kanggyoenggu.authservice.oidc;
+
+import java.security.Key;
+import java.time.Duration;
+import java.util.Set;
+
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import reactor.core.publisher.Mono;
+
+// OIDC id_token 로컬 검증기
+// 제공자 JWKS(캐시)로 서명을 확인하고 iss/aud/exp를 검사하여
+// 사용자 정보 API 호출 없이 사용자 식별 정보를 얻음
+public class OidcIdTokenVerifier {
+
+    private static final Duration ALLOWED_CLOCK_SKEW = Duration.ofSeconds(60);
+
+    private final boolean enabled;
+    private final Set<String> issuers;
+    private final JwksKeyCache keyCache;
+    private final JwtParser parser;
+
+    public OidcIdTokenVerifier(
+            boolean enabled,
+            WebClient webClient,
+            String jwksUri,
+            Set<String> issuers,
+            String audience,
+            Duration refreshInterval) {
+        this.enabled = enabled;
+        this.issuers = Set.copyOf(issuers);
+        this.keyCache = new JwksKeyCache(webClient, jwksUri, refreshInterval, Duration.ofSeconds(30));
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        Key key = keyCache.get(header.getKeyId());
+                        if (key == null) {
+                            throw new UnknownKeyException(header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .requireAudience(audience)
+                .clockSkewSeconds(ALLOWED_CLOCK_SKEW.toSeconds())
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // id_token 검증, 실패 시 에러 Mono
+    public Mono<Claims> verify(String idToken) {
+        if (!enabled) {
+            return Mono.error(new IllegalStateException("OIDC id_token 검증이 비활성화되어 있습니다."));
+        }
+        return Mono.fromCallable(() -> parse(idToken))
+                // 제공자 키 교체 직후: JWKS를 다시 받아 한 번 더 시도
+                .onErrorResume(UnknownKeyException.class, e -> keyCache.refreshForUnknownKey()
+                        .then(Mono.fromCallable(() -> parse(idToken))));
+    }
+
+    private Claims parse(String idToken) {
+        Claims claims = parser.parseSignedClaims(idToken).getPayload();
+        if (!issuers.contains(claims.getIssuer())) {
+            throw new JwtException("허용되지 않은 id_token issuer: " + claims.getIssuer());
+        }
+        return claims;
+    }
+
+    // JWKS에 없는 kid
+    static class UnknownKeyException extends JwtException {
+
+        UnknownKeyException(String kid) {
+            super("JWKS에 없는 kid: " + kid);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package store.kanggyoenggu.authservice.refresh;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CookieValue;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import store.kanggyoenggu.authservice.jwt.JwtService;
+import store.kanggyoenggu.authservice.response.ApiResponse;
+import store.kanggyoenggu.authservice.response.TokenResponse;
+
+import java.util.Map;
+
+// 세션 갱신 컨트롤러
+// access JWT가 만료되면 OAuth 제공자를 다시 거치지 않고 refresh token으로 새 JWT를 발급
+// (제공자 호출 없이 로컬 저장소 조회 + 서명만 수행)
+@RestController
+@RequestMapping("/auth/token")
+public class RefreshTokenController {
+
+    private final RefreshTokenStore refreshTokenStore;
+    private final RefreshTokenCookies cookies;
+    private final JwtService jwtService;
+
+    public RefreshTokenController(
+            RefreshTokenStore refreshTokenStore, RefreshTokenCookies cookies, JwtService jwtService) {
+        this.refreshTokenStore = refreshTokenStore;
+        this.cookies = cookies;
+        this.jwtService = jwtService;
+    }
+
+    // 토큰 갱신
+    // POST /auth/token/refresh
+    // refresh token은 쿠키(refresh_token) 또는 JSON 본문 {"refreshToken": "..."}으로 전달
+    // 성공하면 새 JWT와 새 refresh token을 발급하고 기존 refresh token은 사용 처리 (1회용)
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenResponse> refresh(
+            @CookieValue(name = RefreshTokenCookies.COOKIE_NAME, required = false) String cookieToken,
+            @RequestBody(required = false) Map<String, String> body) {
+        String bodyToken = body != null ? body.get("refreshToken") : null;
+        boolean fromBody = cookieToken == null || cookieToken.isEmpty();
+
+        RefreshTokenStore.Rotation rotation = refreshTokenStore.rotate(fromBody ? bodyToken : cookieToken);
+        if (rotation.status() != RefreshTokenStore.Status.ROTATED) {
+            String message = rotation.status() == RefreshTokenStore.Status.REUSED
+                    ? "이미 사용된 refresh token입니다. 다시 로그인하세요."
+                    : "유효하지 않은 refresh token입니다.";
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .header(HttpHeaders.SET_COOKIE, cookies.clear())
+                    .body(TokenResponse.error(message));
+        }
+
+        String jwtToken = jwtService.generateToken(rotation.provider(), rotation.userId(), rotation.nickname());
+        return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, cookies.create(rotation.token()))
+                .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                .body(TokenResponse.success(jwtToken, fromBody ? rotation.token() : null,
+                        jwtService.getExpiration() / 1000));
+    }
+
+    // refresh token 폐기 (로그아웃)
+    // POST /auth/token/revoke
+    // 같은 로그인에서 이어진 refresh token을 모두 폐기하고 쿠키 삭제
+    @PostMapping("/revoke")
+    public ResponseEntity<ApiResponse> revoke(
+            @CookieValue(name = RefreshTokenCookies.COOKIE_NAME, required = false) String cookieToken,
+            @RequestBody(required = false) Map<String, String> body) {
+        String bodyToken = body != null ? body.get("refreshToken") : null;
+        refreshTokenStore.revoke(cookieToken == null || cookieToken.isEmpty() ? bodyToken : cookieToken);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, cookies.clear())
+                .body(ApiResponse.success("refresh token 폐기 완료"));
+    }
+}
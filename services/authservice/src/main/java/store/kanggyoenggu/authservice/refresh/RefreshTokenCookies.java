@@ -0,0 +1,47 @@
+package store.kanggyoenggu.authservice.refresh;
+
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// refresh token 쿠키 생성
+// HttpOnly + /auth 경로로만 전송되도록 제한해 일반 API(/user 등) 요청에는 실리지 않음
+// (갱신 /auth/token/*과 제공자별 로그아웃 /auth/{provider}/logout 모두에서 받아야 하므로 /auth)
+@Component
+public class RefreshTokenCookies {
+
+    public static final String COOKIE_NAME = "refresh_token";
+    static final String COOKIE_PATH = "/auth";
+
+    private final Duration maxAge;
+    private final boolean secure;
+    private final String sameSite;
+
+    public RefreshTokenCookies(RefreshTokenProperties properties) {
+        this.maxAge = properties.getTtl();
+        this.secure = properties.isCookieSecure();
+        this.sameSite = properties.getCookieSameSite();
+    }
+
+    // Set-Cookie 헤더 값
+    public String create(String refreshToken) {
+        return build(refreshToken, maxAge);
+    }
+
+    // 쿠키 삭제용 Set-Cookie 헤더 값
+    public String clear() {
+        return build("", Duration.ZERO);
+    }
+
+    private String build(String value, Duration age) {
+        return ResponseCookie.from(COOKIE_NAME, value)
+                .httpOnly(true)
+                .secure(secure)
+                .sameSite(sameSite)
+                .path(COOKIE_PATH)
+                .maxAge(age)
+                .build()
+                .toString();
+    }
+}
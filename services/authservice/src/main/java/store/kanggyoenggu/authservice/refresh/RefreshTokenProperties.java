@@ -0,0 +1,37 @@
+package store.kanggyoenggu.authservice.refresh;
+
+import java.time.Duration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+// Refresh Token 설정 Properties
+@Configuration
+@ConfigurationProperties(prefix = "refresh-token")
+@Getter
+@Setter
+public class RefreshTokenProperties {
+
+    // false면 콜백에서 refresh token을 발급하지 않음
+    private boolean enabled = true;
+
+    // refresh token 유효 시간 (갱신할 때마다 새 토큰으로 교체되며 다시 이 기간만큼 유효)
+    private Duration ttl = Duration.ofDays(14);
+
+    // 사용된 토큰을 재사용으로 보지 않는 시간 (여러 탭이 같은 토큰으로 동시에 갱신하는 경우)
+    private Duration reuseGrace = Duration.ofSeconds(10);
+
+    // 로컬 저장 파일 (비어 있으면 메모리에만 보관, 재시작하면 모두 무효)
+    private String storeFile;
+
+    // 변경 사항을 파일에 기록하는 주기 (만료된 항목도 이때 정리)
+    private Duration flushInterval = Duration.ofSeconds(10);
+
+    // 쿠키 Secure 속성 (HTTPS 환경에서는 true)
+    private boolean cookieSecure = false;
+
+    // 쿠키 SameSite 속성 (프론트엔드와 Gateway가 같은 사이트면 Strict)
+    private String cookieSameSite = "Strict";
+}
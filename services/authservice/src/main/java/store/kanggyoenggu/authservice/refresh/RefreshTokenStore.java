@@ -0,0 +1,248 @@
+package store.kanggyoenggu.authservice.refresh;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Refresh Token 저장소 (회전 + 재사용 감지)
+// - 토큰 원문은 저장하지 않고 SHA-256 앞 128비트만 키로 보관
+// - 갱신(rotate)하면 기존 토큰은 "사용됨"으로 표시하고 같은 세션(family)의 새 토큰 발급
+// - 사용된 토큰이 다시 오면 탈취로 보고 같은 family의 토큰을 모두 폐기
+//   (단, 사용 직후 reuseGrace 안에 다시 온 경우는 여러 탭의 동시 갱신으로 보고 같은 family의 새 토큰을 하나 더 발급)
+// - 항목은 만료 시각이 지나면 제거되고, 변경 사항은 flushInterval마다 로컬 파일에 기록 (재시작 후 복원)
+@Slf4j
+@Component
+public class RefreshTokenStore implements DisposableBean {
+
+    private static final int FILE_MAGIC = 0x52544b32; // "RTK2"
+    private static final int TOKEN_BYTES = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final SecureRandom random = new SecureRandom();
+    private final Map<TokenKey, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final long ttlMillis;
+    private final long reuseGraceMillis;
+    private final Path storeFile;
+    private final long flushIntervalMillis;
+    private Disposable flusher;
+
+    public RefreshTokenStore(RefreshTokenProperties properties) {
+        this.ttlMillis = properties.getTtl().toMillis();
+        this.reuseGraceMillis = properties.getReuseGrace().toMillis();
+        String file = properties.getStoreFile();
+        this.storeFile = file == null || file.isBlank() ? null : Path.of(file);
+        this.flushIntervalMillis = properties.getFlushInterval().toMillis();
+    }
+
+    // 파일 복원과 주기 기록은 생성이 끝난 뒤 시작 (생성자에서 this를 스케줄러에 넘기지 않음)
+    @PostConstruct
+    void start() {
+        load();
+        flusher = Schedulers.single().schedulePeriodically(
+                this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // 로그인 시 새 세션(family)의 refresh token 발급
+    public String issue(String provider, long userId, String nickname) {
+        return issue(random.nextLong(), provider, userId, nickname);
+    }
+
+    // refresh token 교체: 유효하면 새 토큰과 세션 정보를 돌려주고 기존 토큰은 사용 처리
+    public Rotation rotate(String token) {
+        if (token == null || token.isEmpty()) {
+            return Rotation.INVALID;
+        }
+        long now = System.currentTimeMillis();
+        TokenKey key = TokenKey.of(token);
+
+        // 사용 표시는 원자적으로 (동시에 같은 토큰으로 두 번 갱신하면 한쪽은 이미 사용된 토큰으로 판정)
+        Entry[] previous = new Entry[1];
+        entries.computeIfPresent(key, (k, entry) -> {
+            previous[0] = entry;
+            return entry.isUsed() || entry.expiresAt() <= now ? entry : entry.markUsed(now);
+        });
+
+        Entry entry = previous[0];
+        if (entry == null || entry.expiresAt() <= now) {
+            return Rotation.INVALID;
+        }
+        if (entry.isUsed() && now - entry.usedAt() >= reuseGraceMillis) {
+            int revoked = revokeFamily(entry.familyId());
+            log.warn("사용된 refresh token 재사용 감지, 세션 폐기 (provider={}, revoked={})", entry.provider(), revoked);
+            return Rotation.REUSED;
+        }
+
+        dirty.set(true);
+        String next = issue(entry.familyId(), entry.provider(), entry.userId(), entry.nickname());
+        return new Rotation(Status.ROTATED, next, entry.provider(), entry.userId(), entry.nickname());
+    }
+
+    // 로그아웃: 토큰이 속한 세션 전체 폐기
+    public void revoke(String token) {
+        if (token == null || token.isEmpty()) {
+            return;
+        }
+        Entry entry = entries.get(TokenKey.of(token));
+        if (entry != null) {
+            revokeFamily(entry.familyId());
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public void destroy() {
+        if (flusher != null) {
+            flusher.dispose();
+        }
+        flush();
+    }
+
+    private String issue(long familyId, String provider, long userId, String nickname) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = ENCODER.encodeToString(bytes);
+
+        entries.put(TokenKey.of(token), new Entry(
+                familyId, provider, userId, nickname, System.currentTimeMillis() + ttlMillis, 0));
+        dirty.set(true);
+        return token;
+    }
+
+    // 재사용 감지나 로그아웃 시에만 호출되므로 전체 순회
+    private int revokeFamily(long familyId) {
+        int before = entries.size();
+        entries.values().removeIf(entry -> entry.familyId() == familyId);
+        dirty.set(true);
+        return before - entries.size();
+    }
+
+    // 만료 항목 정리 후 변경이 있으면 임시 파일에 쓰고 교체
+    synchronized void flush() {
+        long now = System.currentTimeMillis();
+        if (entries.values().removeIf(entry -> entry.expiresAt() <= now)) {
+            dirty.set(true);
+        }
+        if (storeFile == null || !dirty.getAndSet(false)) {
+            return;
+        }
+
+        try {
+            Path parent = storeFile.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, storeFile.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(FILE_MAGIC);
+                for (Map.Entry<TokenKey, Entry> item : entries.entrySet()) {
+                    TokenKey key = item.getKey();
+                    Entry entry = item.getValue();
+                    out.writeBoolean(true);
+                    out.writeLong(key.high());
+                    out.writeLong(key.low());
+                    out.writeLong(entry.familyId());
+                    out.writeUTF(entry.provider());
+                    out.writeLong(entry.userId());
+                    out.writeUTF(entry.nickname());
+                    out.writeLong(entry.expiresAt());
+                    out.writeLong(entry.usedAt());
+                }
+                out.writeBoolean(false);
+            }
+            Files.move(temp, storeFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            dirty.set(true);
+            log.error("refresh token 저장 실패: {}", storeFile, e);
+        }
+    }
+
+    private void load() {
+        if (storeFile == null || !Files.exists(storeFile)) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(storeFile)))) {
+            if (in.readInt() != FILE_MAGIC) {
+                log.warn("refresh token 저장 파일 형식이 달라 무시합니다: {}", storeFile);
+                return;
+            }
+            while (in.readBoolean()) {
+                TokenKey key = new TokenKey(in.readLong(), in.readLong());
+                Entry entry = new Entry(in.readLong(), in.readUTF(), in.readLong(), in.readUTF(), in.readLong(),
+                        in.readLong());
+                if (entry.expiresAt() > now) {
+                    entries.put(key, entry);
+                }
+            }
+            log.info("refresh token {}개 복원: {}", entries.size(), storeFile);
+        } catch (IOException e) {
+            log.error("refresh token 저장 파일을 읽을 수 없습니다: {}", storeFile, e);
+        }
+    }
+
+    public enum Status {
+        ROTATED,
+        // 없거나 만료된 토큰
+        INVALID,
+        // 이미 사용된 토큰 (세션 폐기됨)
+        REUSED
+    }
+
+    // 교체 결과 (ROTATED일 때만 token과 세션 정보가 있음)
+    public record Rotation(Status status, String token, String provider, long userId, String nickname) {
+
+        static final Rotation INVALID = new Rotation(Status.INVALID, null, null, 0, null);
+        static final Rotation REUSED = new Rotation(Status.REUSED, null, null, 0, null);
+    }
+
+    // 토큰 SHA-256 앞 128비트
+    private record TokenKey(long high, long low) {
+
+        static TokenKey of(String token) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+                ByteBuffer buffer = ByteBuffer.wrap(digest);
+                return new TokenKey(buffer.getLong(), buffer.getLong());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    // usedAt: 사용(교체)된 시각, 0이면 아직 사용되지 않음
+    private record Entry(long familyId, String provider, long userId, String nickname, long expiresAt,
+            long usedAt) {
+
+        boolean isUsed() {
+            return usedAt != 0;
+        }
+
+        Entry markUsed(long now) {
+            return new Entry(familyId, provider, userId, nickname, expiresAt, now);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package store.kanggyoenggu.authservice.resilience;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+// 제공자별 circuit breaker / bulkhead 상태 (/actuator/health의 oauthProviders)
+// 한 제공자가 차단되어도 다른 제공자 로그인과 토큰 갱신은 가능하므로 인스턴스 상태는 UP으로 두고,
+// 모든 제공자가 차단된 경우에만 DOWN
+@Component("oauthProviders")
+public class OAuthProviderHealthIndicator implements HealthIndicator {
+
+    private final ProviderGuards providerGuards;
+
+    public OAuthProviderHealthIndicator(ProviderGuards providerGuards) {
+        this.providerGuards = providerGuards;
+    }
+
+    @Override
+    public Health health() {
+        if (!providerGuards.isEnabled()) {
+            return Health.up().withDetail("enabled", false).build();
+        }
+
+        Map<String, ProviderGuard> guards = new TreeMap<>(providerGuards.guards());
+        int open = 0;
+        Health.Builder builder = Health.up();
+        for (Map.Entry<String, ProviderGuard> entry : guards.entrySet()) {
+            ProviderGuard guard = entry.getValue();
+            if (guard.state() == ProviderCircuitBreaker.State.OPEN) {
+                open++;
+            }
+
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("state", guard.state());
+            details.put("failureRate", guard.failureRate());
+            details.put("bufferedCalls", guard.bufferedCalls());
+            details.put("activeCalls", guard.activeCalls());
+            details.put("queuedCalls", guard.queuedCalls());
+            builder.withDetail(entry.getKey(), details);
+        }
+
+        if (!guards.isEmpty() && open == guards.size()) {
+            builder.down();
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,113 @@
+package store.kanggyoenggu.authservice.resilience;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+// 제공자 하나의 동시 호출 제한 (대기열 포함)
+// 허가를 받지 못한 호출은 maxQueuedCalls까지 대기열에서 기다리고 (스레드를 점유하지 않음),
+// 대기열이 가득 차거나 maxWait가 지나면 ProviderUnavailableException으로 실패
+// 호출이 끝나면 허가를 반납하지 않고 대기 중인 다음 호출에 바로 넘김
+final class ProviderBulkhead {
+
+    private final String provider;
+    private final int maxConcurrentCalls;
+    private final int maxQueuedCalls;
+    private final Duration maxWait;
+
+    private final ArrayDeque<Waiter> waiting = new ArrayDeque<>();
+    private int activeCalls;
+
+    ProviderBulkhead(String provider, ProviderResilienceProperties.Bulkhead properties) {
+        this.provider = provider;
+        this.maxConcurrentCalls = Math.max(1, properties.getMaxConcurrentCalls());
+        this.maxQueuedCalls = Math.max(0, properties.getMaxQueuedCalls());
+        this.maxWait = properties.getMaxWait();
+    }
+
+    // 허가 획득 (반드시 Permit.release()로 반납)
+    Mono<Permit> acquire() {
+        return Mono.<Permit>create(sink -> {
+            Waiter waiter;
+            synchronized (this) {
+                if (activeCalls < maxConcurrentCalls) {
+                    activeCalls++;
+                    waiter = null;
+                } else if (waiting.size() >= maxQueuedCalls) {
+                    sink.error(new ProviderUnavailableException(provider, ProviderUnavailableException.BULKHEAD_FULL));
+                    return;
+                } else {
+                    waiter = new Waiter(sink);
+                    waiting.add(waiter);
+                }
+            }
+            if (waiter == null) {
+                sink.success(new Permit());
+            } else {
+                // 대기 시간 초과 또는 요청 취소
+                sink.onCancel(() -> cancel(waiter));
+            }
+        }).timeout(maxWait, Mono.error(
+                () -> new ProviderUnavailableException(provider, ProviderUnavailableException.BULKHEAD_FULL)));
+    }
+
+    synchronized int activeCalls() {
+        return activeCalls;
+    }
+
+    synchronized int queuedCalls() {
+        return waiting.size();
+    }
+
+    private void release() {
+        Waiter next;
+        synchronized (this) {
+            next = waiting.poll();
+            if (next == null) {
+                activeCalls--;
+                return;
+            }
+            next.permit = new Permit();
+        }
+        next.sink.success(next.permit);
+    }
+
+    private void cancel(Waiter waiter) {
+        Permit granted;
+        synchronized (this) {
+            if (waiting.remove(waiter)) {
+                return;
+            }
+            granted = waiter.permit;
+        }
+        // 허가를 넘겨받은 직후 취소된 경우 다시 반납
+        if (granted != null) {
+            granted.release();
+        }
+    }
+
+    // 동시 호출 허가 1개 (release는 여러 번 호출해도 한 번만 반납)
+    final class Permit {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                ProviderBulkhead.this.release();
+            }
+        }
+    }
+
+    private static final class Waiter {
+
+        private final MonoSink<Permit> sink;
+        private Permit permit;
+
+        Waiter(MonoSink<Permit> sink) {
+            this.sink = sink;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package store.kanggyoenggu.authservice.resilience;
+
+// 제공자 하나의 circuit breaker (최근 N건 실패율 기준)
+// CLOSED: 모두 허용, 실패율이 임계값 이상이면 OPEN
+// OPEN: openDuration 동안 모두 거절, 이후 HALF_OPEN
+// HALF_OPEN: halfOpenCalls건만 시험 호출, 모두 성공하면 CLOSED, 하나라도 실패하면 OPEN
+// 상태가 바뀔 때마다 generation을 올려, 이전 상태에서 시작한 호출의 결과는 반영하지 않음
+// 호출 1건당 잠금 두 번 (HTTP 호출 비용에 비해 무시할 수준)
+final class ProviderCircuitBreaker {
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    // 호출 거절 (tryAcquire 반환값)
+    static final long REJECTED = -1;
+
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openNanos;
+    private final int halfOpenCalls;
+
+    // 최근 호출 결과 (true = 실패), 원형 버퍼
+    private final boolean[] outcomes;
+    private int next;
+    private int recorded;
+    private int failures;
+
+    private volatile State state = State.CLOSED;
+    private long generation;
+    private long openedAt;
+    private int trialCalls;
+    private int trialSuccesses;
+
+    ProviderCircuitBreaker(ProviderResilienceProperties.CircuitBreaker properties) {
+        this.outcomes = new boolean[Math.max(1, properties.getSlidingWindowSize())];
+        this.minimumCalls = Math.max(1, Math.min(properties.getMinimumCalls(), outcomes.length));
+        this.failureRateThreshold = properties.getFailureRateThreshold();
+        this.openNanos = properties.getOpenDuration().toNanos();
+        this.halfOpenCalls = Math.max(1, properties.getHalfOpenCalls());
+    }
+
+    // 호출 허용이면 현재 generation, 거절이면 REJECTED
+    synchronized long tryAcquire(long now) {
+        if (state == State.OPEN) {
+            if (now - openedAt < openNanos) {
+                return REJECTED;
+            }
+            transition(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialCalls >= halfOpenCalls) {
+                return REJECTED;
+            }
+            trialCalls++;
+        }
+        return generation;
+    }
+
+    synchronized void onSuccess(long callGeneration) {
+        if (callGeneration != generation) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            if (++trialSuccesses >= halfOpenCalls) {
+                transition(State.CLOSED);
+            }
+            return;
+        }
+        record(false);
+    }
+
+    synchronized void onFailure(long callGeneration, long now) {
+        if (callGeneration != generation) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            open(now);
+            return;
+        }
+        record(true);
+        if (recorded >= minimumCalls && failures * 100L >= (long) failureRateThreshold * recorded) {
+            open(now);
+        }
+    }
+
+    // 결과 없이 끝난 호출 (취소): 시험 호출 자리만 반납
+    synchronized void onCancel(long callGeneration) {
+        if (callGeneration == generation && state == State.HALF_OPEN && trialCalls > 0) {
+            trialCalls--;
+        }
+    }
+
+    State state() {
+        return state;
+    }
+
+    // 현재 창의 실패율 (%), 최소 호출 수 미만이면 -1
+    synchronized float failureRate() {
+        return recorded < minimumCalls ? -1 : failures * 100f / recorded;
+    }
+
+    synchronized int bufferedCalls() {
+        return recorded;
+    }
+
+    private void record(boolean failure) {
+        if (recorded == outcomes.length) {
+            if (outcomes[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[next] = failure;
+        if (failure) {
+            failures++;
+        }
+        next = (next + 1) % outcomes.length;
+    }
+
+    private void open(long now) {
+        transition(State.OPEN);
+        openedAt = now;
+    }
+
+    private void transition(State target) {
+        state = target;
+        generation++;
+        trialCalls = 0;
+        trialSuccesses = 0;
+        if (target == State.CLOSED) {
+            next = 0;
+            recorded = 0;
+            failures = 0;
+        }
+    }
+}
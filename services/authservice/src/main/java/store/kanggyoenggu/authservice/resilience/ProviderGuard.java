@@ -0,0 +1,141 @@
+package store.kanggyoenggu.authservice.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+import reactor.core.publisher.Mono;
+
+// 제공자 WebClient 필터: circuit breaker → bulkhead → 제한 시간 순으로 적용
+// permit과 제한 시간은 응답 본문을 다 받을 때까지 유지 (헤더 수신만으로 호출이 끝난 것으로 보지 않음)
+// 실패로 집계: 연결/응답 오류, 제한 시간 초과, 5xx, 429 (4xx는 제공자가 정상 응답한 것으로 간주)
+// 차단 중이거나 대기열이 가득 차면 제공자를 호출하지 않고 ProviderUnavailableException으로 바로 실패
+public final class ProviderGuard implements ExchangeFilterFunction {
+
+    private final String provider;
+    private final Duration timeout;
+    private final ProviderCircuitBreaker circuitBreaker;
+    private final ProviderBulkhead bulkhead;
+
+    ProviderGuard(String provider, ProviderResilienceProperties properties) {
+        this.provider = provider;
+        this.timeout = properties.getTimeout();
+        this.circuitBreaker = new ProviderCircuitBreaker(properties.getCircuitBreaker());
+        this.bulkhead = new ProviderBulkhead(provider, properties.getBulkhead());
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> {
+            long generation = circuitBreaker.tryAcquire(System.nanoTime());
+            if (generation == ProviderCircuitBreaker.REJECTED) {
+                return Mono.error(new ProviderUnavailableException(provider, ProviderUnavailableException.CIRCUIT_OPEN));
+            }
+
+            return bulkhead.acquire()
+                    .doOnError(e -> circuitBreaker.onCancel(generation))
+                    .flatMap(permit -> {
+                        GuardedCall call = new GuardedCall(generation, permit, System.nanoTime() + timeout.toNanos());
+                        return next.exchange(request)
+                                .timeout(timeout)
+                                .map(call::guardBody)
+                                .doOnError(e -> call.finish(Outcome.FAILURE))
+                                .doOnCancel(() -> call.finish(Outcome.CANCEL));
+                    })
+                    .onErrorMap(TimeoutException.class, this::timeoutError);
+        });
+    }
+
+    public String getProvider() {
+        return provider;
+    }
+
+    ProviderCircuitBreaker.State state() {
+        return circuitBreaker.state();
+    }
+
+    float failureRate() {
+        return circuitBreaker.failureRate();
+    }
+
+    int bufferedCalls() {
+        return circuitBreaker.bufferedCalls();
+    }
+
+    int activeCalls() {
+        return bulkhead.activeCalls();
+    }
+
+    int queuedCalls() {
+        return bulkhead.queuedCalls();
+    }
+
+    private static boolean isFailure(ClientResponse response) {
+        return response.statusCode().is5xxServerError() || response.statusCode().value() == 429;
+    }
+
+    private ProviderUnavailableException timeoutError(TimeoutException e) {
+        return new ProviderUnavailableException(provider, ProviderUnavailableException.TIMEOUT);
+    }
+
+    private enum Outcome {
+        SUCCESS, FAILURE, CANCEL
+    }
+
+    // 호출 1건: 응답 헤더뿐 아니라 본문을 다 받을 때까지 permit을 잡고 같은 제한 시간을 적용
+    // (헤더만 보내고 본문을 늦게 보내는 제공자도 동시 호출 수와 제한 시간 안에 묶음)
+    private final class GuardedCall {
+
+        private final long generation;
+        private final ProviderBulkhead.Permit permit;
+        private final long deadline;
+        private final AtomicBoolean recorded = new AtomicBoolean();
+
+        GuardedCall(long generation, ProviderBulkhead.Permit permit, long deadline) {
+            this.generation = generation;
+            this.permit = permit;
+            this.deadline = deadline;
+        }
+
+        ClientResponse guardBody(ClientResponse response) {
+            // 5xx/429는 헤더에서 바로 실패로 집계, 그 외는 본문까지 받아야 성공
+            if (isFailure(response)) {
+                record(Outcome.FAILURE);
+            }
+            return response.mutate()
+                    .body(body -> body
+                            .timeout(untilDeadline(), buffer -> untilDeadline())
+                            .onErrorMap(TimeoutException.class, ProviderGuard.this::timeoutError)
+                            .doOnComplete(() -> finish(Outcome.SUCCESS))
+                            .doOnError(e -> finish(Outcome.FAILURE))
+                            .doOnCancel(() -> finish(Outcome.CANCEL)))
+                    .build();
+        }
+
+        // 다음 본문 조각은 호출 전체 제한 시간 안에 도착해야 함
+        private Mono<Long> untilDeadline() {
+            return Mono.delay(Duration.ofNanos(Math.max(0, deadline - System.nanoTime())));
+        }
+
+        void finish(Outcome outcome) {
+            record(outcome);
+            permit.release();
+        }
+
+        private void record(Outcome outcome) {
+            if (!recorded.compareAndSet(false, true)) {
+                return;
+            }
+            switch (outcome) {
+                case SUCCESS -> circuitBreaker.onSuccess(generation);
+                case FAILURE -> circuitBreaker.onFailure(generation, System.nanoTime());
+                case CANCEL -> circuitBreaker.onCancel(generation);
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package store.kanggyoenggu.authservice.resilience;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+// 제공자별 ProviderGuard (제공자마다 독립된 bulkhead / circuit breaker)
+// 한 제공자가 느려지거나 장애가 나도 다른 제공자 로그인은 영향을 받지 않음
+@Component
+public class ProviderGuards {
+
+    private final ProviderResilienceProperties properties;
+    private final Map<String, ProviderGuard> guards = new ConcurrentHashMap<>();
+
+    public ProviderGuards(ProviderResilienceProperties properties) {
+        this.properties = properties;
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    // 제공자 이름으로 조회 (없으면 생성)
+    public ProviderGuard guard(String provider) {
+        return guards.computeIfAbsent(provider, name -> new ProviderGuard(name, properties));
+    }
+
+    Map<String, ProviderGuard> guards() {
+        return Map.copyOf(guards);
+    }
+}
@@ -0,0 +1,60 @@
+package store.kanggyoenggu.authservice.resilience;
+
+import java.time.Duration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+// OAuth 제공자 호출 보호 설정 Properties (제공자마다 같은 값으로 별도 인스턴스 생성)
+@Configuration
+@ConfigurationProperties(prefix = "oauth.resilience")
+@Getter
+@Setter
+public class ProviderResilienceProperties {
+
+    // false면 bulkhead/circuit breaker 없이 호출
+    private boolean enabled = true;
+
+    // 호출 1건의 전체 제한 시간 (커넥션 획득 대기 + 연결 + 응답 헤더 + 응답 본문 수신)
+    private Duration timeout = Duration.ofSeconds(8);
+
+    private Bulkhead bulkhead = new Bulkhead();
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    @Getter
+    @Setter
+    public static class Bulkhead {
+
+        // 제공자별 동시 호출 수
+        private int maxConcurrentCalls = 50;
+
+        // 동시 호출 수 초과 시 대기할 수 있는 호출 수 (초과하면 바로 거절)
+        private int maxQueuedCalls = 200;
+
+        // 대기 최대 시간
+        private Duration maxWait = Duration.ofSeconds(2);
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+
+        // 실패율 계산에 쓰는 최근 호출 수
+        private int slidingWindowSize = 20;
+
+        // 실패율을 계산하기 위한 최소 호출 수
+        private int minimumCalls = 10;
+
+        // 이 비율(%) 이상 실패하면 차단
+        private int failureRateThreshold = 50;
+
+        // 차단 유지 시간 (이후 시험 호출 허용)
+        private Duration openDuration = Duration.ofSeconds(30);
+
+        // 시험 호출 수 (모두 성공하면 차단 해제, 하나라도 실패하면 다시 차단)
+        private int halfOpenCalls = 3;
+    }
+}
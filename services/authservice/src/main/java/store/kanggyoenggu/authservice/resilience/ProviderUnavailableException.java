@@ -0,0 +1,37 @@
+package store.kanggyoenggu.authservice.resilience;
+
+// 제공자 호출을 시도하지 않고 바로 실패 (차단 중, 대기열 초과) 또는 제한 시간 초과
+// 빠른 실패가 목적이므로 스택 트레이스를 만들지 않음
+public class ProviderUnavailableException extends RuntimeException {
+
+    public static final String CIRCUIT_OPEN = "circuit_open";
+    public static final String BULKHEAD_FULL = "bulkhead_full";
+    public static final String TIMEOUT = "timeout";
+
+    private final String provider;
+    private final String reason;
+
+    public ProviderUnavailableException(String provider, String reason) {
+        super(provider + " 호출 불가: " + reason, null, false, false);
+        this.provider = provider;
+        this.reason = reason;
+    }
+
+    public String getProvider() {
+        return provider;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    // 본문 수신 중 제한 시간 초과는 WebClient가 WebClientResponseException으로 감싸므로 원인까지 확인
+    public static boolean isCauseOf(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ProviderUnavailableException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,77 @@
+package store.kanggyoenggu.authservice.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// 토큰 갱신 응답
+// refreshToken은 요청 본문으로 refresh token을 보낸 경우에만 포함 (쿠키로 보낸 경우는 Set-Cookie로만 전달)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TokenResponse {
+
+    private boolean success;
+    private String message;
+    private String token;
+    private String refreshToken;
+    private Long expiresIn;
+
+    public TokenResponse() {
+    }
+
+    public TokenResponse(boolean success, String message, String token, String refreshToken, Long expiresIn) {
+        this.success = success;
+        this.message = message;
+        this.token = token;
+        this.refreshToken = refreshToken;
+        this.expiresIn = expiresIn;
+    }
+
+    // Static factory methods
+    public static TokenResponse success(String token, String refreshToken, long expiresIn) {
+        return new TokenResponse(true, "토큰 갱신 성공", token, refreshToken, expiresIn);
+    }
+
+    public static TokenResponse error(String message) {
+        return new TokenResponse(false, message, null, null, null);
+    }
+
+    // Getters and Setters
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    // access token 유효 시간 (초)
+    public Long getExpiresIn() {
+        return expiresIn;
+    }
+
+    public void setExpiresIn(Long expiresIn) {
+        this.expiresIn = expiresIn;
+    }
+}
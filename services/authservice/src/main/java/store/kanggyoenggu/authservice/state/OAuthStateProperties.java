@@ -0,0 +1,36 @@
+package store.kanggyoenggu.authservice.state;
+
+import java.time.Duration;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+// OAuth state / PKCE 설정 Properties
+@Configuration
+@ConfigurationProperties(prefix = "oauth.state")
+@Getter
+@Setter
+public class OAuthStateProperties {
+
+    // state HMAC 키 (모든 Auth Service 인스턴스가 같은 값을 사용해야 함)
+    // 비어 있으면 기동 시 임의로 생성 (단일 인스턴스 개발 환경용)
+    private String secret;
+
+    // state 유효 시간 (로그인 URL 발급 → 콜백까지)
+    private Duration ttl = Duration.ofMinutes(10);
+
+    // true면 state 없는 콜백 거절, false면 state가 있을 때만 검증 (부하 테스트 등)
+    private boolean required = true;
+
+    // PKCE(S256)를 사용할 제공자 (네이버는 PKCE 미지원)
+    private List<String> pkceProviders = List.of("kakao", "google");
+
+    // 재사용 확인 캐시의 시간 버킷 수 (버킷 폭 = ttl / buckets)
+    private int replayBuckets = 10;
+
+    // binding 쿠키 Secure 속성 (HTTPS 환경에서는 true)
+    private boolean cookieSecure = false;
+}
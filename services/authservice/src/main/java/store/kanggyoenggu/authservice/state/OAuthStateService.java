@@ -0,0 +1,234 @@
+package store.kanggyoenggu.authservice.state;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Set;
+
+// 서명된 OAuth state 발급/검증 + PKCE code_verifier 도출
+// state = Base64URL(만료 시각 8바이트 + nonce 16바이트) + "." + Base64URL(HMAC-SHA256(제공자 + payload + binding) 앞 16바이트)
+// - binding: 로그인을 시작한 브라우저에만 있는 난수 (HttpOnly, SameSite=Lax 쿠키 oauth_binding)
+//   다른 브라우저에서 발급받은 state로는 콜백을 통과할 수 없음 (로그인 CSRF 방지)
+// - 세션 저장소 없이 같은 secret을 가진 어느 인스턴스에서도 검증 가능 (수평 확장)
+// - code_verifier = Base64URL(HMAC-SHA256("pkce" + binding + state)): 로그인 URL에는 S256 challenge만 싣고,
+//   콜백에서 state와 binding 쿠키로 같은 verifier를 다시 계산하므로 verifier를 어디에도 저장하지 않음
+//   (콜백 URL만 가로채서는 verifier를 알 수 없음)
+// - 한 번 사용된 state는 StateReplayCache로 거절 (인스턴스별, ttl 동안만 보관)
+@Slf4j
+@Service
+public class OAuthStateService {
+
+    // 브라우저 binding 쿠키 이름
+    public static final String BINDING_COOKIE = "oauth_binding";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int NONCE_BYTES = 16;
+    private static final int PAYLOAD_BYTES = Long.BYTES + NONCE_BYTES;
+    private static final int MAC_BYTES = 16;
+    private static final int BINDING_BYTES = 16;
+    private static final byte[] PKCE_LABEL = "pkce".getBytes(StandardCharsets.US_ASCII);
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecureRandom random = new SecureRandom();
+    private final ThreadLocal<Mac> macs;
+    private final long ttlSeconds;
+    private final Duration ttl;
+    private final boolean cookieSecure;
+    private final boolean required;
+    private final Set<String> pkceProviders;
+    private final StateReplayCache replayCache;
+
+    public OAuthStateService(OAuthStateProperties properties, MeterRegistry registry) {
+        byte[] key = resolveKey(properties.getSecret());
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+                mac.init(new SecretKeySpec(key, HMAC_ALGORITHM));
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        this.ttlSeconds = properties.getTtl().toSeconds();
+        this.ttl = properties.getTtl();
+        this.cookieSecure = properties.isCookieSecure();
+        this.required = properties.isRequired();
+        this.pkceProviders = Set.copyOf(properties.getPkceProviders());
+        this.replayCache = new StateReplayCache(ttlSeconds, properties.getReplayBuckets());
+
+        Gauge.builder("auth.oauth.state.replay.size", replayCache, StateReplayCache::size)
+                .description("재사용 확인 캐시에 보관 중인 state 수")
+                .register(registry);
+    }
+
+    // 로그인 URL용 state 발급 (PKCE 제공자면 code_challenge 포함)
+    // binding: 요청에 이미 있는 binding 쿠키 값 (없거나 형식이 다르면 새로 생성, 여러 탭에서 동시 로그인해도 공유)
+    public IssuedState issue(String provider, String binding) {
+        byte[] bindingBytes = decodeBinding(binding);
+        if (bindingBytes == null) {
+            bindingBytes = new byte[BINDING_BYTES];
+            random.nextBytes(bindingBytes);
+        }
+
+        long expiresAt = System.currentTimeMillis() / 1000 + ttlSeconds;
+        byte[] payload = ByteBuffer.allocate(PAYLOAD_BYTES).putLong(expiresAt).array();
+        byte[] nonce = new byte[NONCE_BYTES];
+        random.nextBytes(nonce);
+        System.arraycopy(nonce, 0, payload, Long.BYTES, NONCE_BYTES);
+
+        String state = ENCODER.encodeToString(payload) + "."
+                + ENCODER.encodeToString(sign(provider, payload, bindingBytes));
+        String codeChallenge = usesPkce(provider) ? codeChallenge(codeVerifier(state, bindingBytes)) : null;
+        return new IssuedState(state, codeChallenge, bindingCookie(ENCODER.encodeToString(bindingBytes)));
+    }
+
+    // 콜백 state 검증 (서명, 제공자, 브라우저 binding, 만료), 실패하면 null
+    // 재사용 여부는 확인하지 않음 (실제로 처리할 요청만 markUsed 호출)
+    // state가 없고 required=false면 검증 없이 통과 (code_verifier 없음)
+    public VerifiedState verify(String provider, String state, String binding) {
+        if (state == null || state.isEmpty()) {
+            return required ? null : VerifiedState.NONE;
+        }
+        byte[] bindingBytes = decodeBinding(binding);
+        if (bindingBytes == null) {
+            return null;
+        }
+
+        int dot = state.indexOf('.');
+        if (dot < 0) {
+            return null;
+        }
+        byte[] payload;
+        byte[] mac;
+        try {
+            payload = DECODER.decode(state.substring(0, dot));
+            mac = DECODER.decode(state.substring(dot + 1));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (payload.length != PAYLOAD_BYTES || !MessageDigest.isEqual(mac, sign(provider, payload, bindingBytes))) {
+            return null;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        long expiresAt = buffer.getLong();
+        long now = System.currentTimeMillis() / 1000;
+        if (expiresAt <= now || expiresAt > now + ttlSeconds) {
+            return null;
+        }
+        // nonce 앞 8바이트를 재사용 확인 키로 사용 (128비트 난수 중 64비트)
+        return new VerifiedState(provider, usesPkce(provider) ? codeVerifier(state, bindingBytes) : null,
+                buffer.getLong(), expiresAt);
+    }
+
+    // 검증된 state를 사용 처리: 처음이면 true, 이미 사용된 state면 false
+    public boolean markUsed(VerifiedState verified) {
+        if (verified == VerifiedState.NONE) {
+            return true;
+        }
+        if (!replayCache.markUsed(verified.nonce(), verified.expiresAt(), System.currentTimeMillis() / 1000)) {
+            log.warn("이미 사용된 OAuth state로 콜백 요청 (provider={})", verified.provider());
+            return false;
+        }
+        return true;
+    }
+
+    public boolean usesPkce(String provider) {
+        return pkceProviders.contains(provider);
+    }
+
+    private byte[] sign(String provider, byte[] payload, byte[] binding) {
+        Mac mac = macs.get();
+        mac.update(provider.getBytes(StandardCharsets.US_ASCII));
+        mac.update(payload);
+        return Arrays.copyOf(mac.doFinal(binding), MAC_BYTES);
+    }
+
+    // 43자 (RFC 7636 최소 길이), Base64URL 문자만 사용
+    private String codeVerifier(String state, byte[] binding) {
+        Mac mac = macs.get();
+        mac.update(PKCE_LABEL);
+        mac.update(binding);
+        return ENCODER.encodeToString(mac.doFinal(state.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    // 콜백 경로(/oauth2/**, /auth/{provider}/callback)가 둘이므로 Path=/
+    // 제공자에서 돌아오는 최상위 GET 이동에도 전송되도록 SameSite=Lax
+    private String bindingCookie(String binding) {
+        return ResponseCookie.from(BINDING_COOKIE, binding)
+                .httpOnly(true)
+                .secure(cookieSecure)
+                .sameSite("Lax")
+                .path("/")
+                .maxAge(ttl)
+                .build()
+                .toString();
+    }
+
+    private static byte[] decodeBinding(String binding) {
+        if (binding == null || binding.isEmpty()) {
+            return null;
+        }
+        try {
+            byte[] bytes = DECODER.decode(binding);
+            return bytes.length == BINDING_BYTES ? bytes : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String codeChallenge(String codeVerifier) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(codeVerifier.getBytes(StandardCharsets.US_ASCII));
+            return ENCODER.encodeToString(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private byte[] resolveKey(String secret) {
+        if (secret != null && !secret.isBlank()) {
+            return secret.getBytes(StandardCharsets.UTF_8);
+        }
+        log.warn("oauth.state.secret이 설정되지 않아 임의 키를 생성합니다. 여러 인스턴스에서는 같은 값을 설정하세요.");
+        byte[] key = new byte[32];
+        random.nextBytes(key);
+        return key;
+    }
+
+    // 발급한 state와 PKCE code_challenge (PKCE 미사용 제공자면 null, method는 S256)
+    // bindingCookie: 로그인 URL 응답에 실을 Set-Cookie 헤더 값
+    public record IssuedState(String state, String codeChallenge, String bindingCookie) {
+
+        // 인가 URL에 붙일 쿼리 ("&state=...&code_challenge=...&code_challenge_method=S256")
+        // state/challenge는 Base64URL과 '.'만 사용하므로 URL 인코딩 불필요
+        public String toQuery() {
+            return codeChallenge == null
+                    ? "&state=" + state
+                    : "&state=" + state + "&code_challenge=" + codeChallenge + "&code_challenge_method=S256";
+        }
+    }
+
+    // 검증된 state에서 도출한 code_verifier (PKCE 미사용 또는 state 생략 시 null)
+    // nonce, expiresAt: 재사용 확인 키 (markUsed)
+    public record VerifiedState(String provider, String codeVerifier, long nonce, long expiresAt) {
+
+        static final VerifiedState NONE = new VerifiedState(null, null, 0, 0);
+    }
+}
@@ -0,0 +1,45 @@
+package store.kanggyoenggu.authservice.state;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 사용된 state nonce 캐시 (시간 버킷)
+// nonce는 state 만료 시각이 속한 버킷에 넣고, 버킷 끝이 지나면 버킷째 제거
+// 만료된 state는 서명 검증 단계에서 이미 거절되므로 ttl이 지난 nonce는 기억할 필요가 없어
+// 메모리는 ttl 동안 발급된 state 수로 제한됨
+class StateReplayCache {
+
+    private final long bucketSeconds;
+    private final Map<Long, Set<Long>> buckets = new ConcurrentHashMap<>();
+    private volatile long sweptBucket = Long.MIN_VALUE;
+
+    StateReplayCache(long ttlSeconds, int bucketCount) {
+        this.bucketSeconds = Math.max(1, ttlSeconds / Math.max(1, bucketCount));
+    }
+
+    // 처음 사용이면 true, 이미 사용된 nonce면 false
+    boolean markUsed(long nonce, long expiresAtSeconds, long nowSeconds) {
+        sweep(nowSeconds);
+        long bucket = expiresAtSeconds / bucketSeconds;
+        return buckets.computeIfAbsent(bucket, b -> ConcurrentHashMap.newKeySet()).add(nonce);
+    }
+
+    int size() {
+        int size = 0;
+        for (Set<Long> nonces : buckets.values()) {
+            size += nonces.size();
+        }
+        return size;
+    }
+
+    // 버킷이 바뀔 때만 지난 버킷 제거 (요청마다 전체 순회하지 않음)
+    private void sweep(long nowSeconds) {
+        long current = nowSeconds / bucketSeconds;
+        if (current == sweptBucket) {
+            return;
+        }
+        sweptBucket = current;
+        buckets.keySet().removeIf(bucket -> bucket < current);
+    }
+}
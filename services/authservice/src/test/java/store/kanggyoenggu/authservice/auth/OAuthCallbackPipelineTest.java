@@ -0,0 +1,189 @@
+package store.kanggyoenggu.authservice.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import store.kanggyoenggu.authservice.jwt.JwtProperties;
+import store.kanggyoenggu.authservice.jwt.JwtService;
+import store.kanggyoenggu.authservice.refresh.RefreshTokenCookies;
+import store.kanggyoenggu.authservice.refresh.RefreshTokenProperties;
+import store.kanggyoenggu.authservice.refresh.RefreshTokenStore;
+import store.kanggyoenggu.authservice.state.OAuthStateProperties;
+import store.kanggyoenggu.authservice.state.OAuthStateService;
+
+class OAuthCallbackPipelineTest {
+
+	private static final String CALLBACK_URL = "http://localhost:3000/dashboard";
+
+	private final OAuthStateService stateService = newStateService();
+	private final StubProvider provider = new StubProvider();
+
+	@Test
+	void duplicateDuringExchangeWaitsForFirstResult() {
+		OAuthCallbackPipeline pipeline = newPipeline(Duration.ofSeconds(5));
+		Login login = login();
+
+		AtomicReference<ResponseEntity<Void>> first = new AtomicReference<>();
+		AtomicReference<ResponseEntity<Void>> second = new AtomicReference<>();
+		pipeline.handle("naver", "code-1", login.state(), login.binding(), null, null).subscribe(first::set);
+		pipeline.handle("naver", "code-1", login.state(), login.binding(), null, null).subscribe(second::set);
+		assertThat(first.get()).isNull();
+		assertThat(second.get()).isNull();
+
+		provider.complete();
+
+		assertThat(provider.exchanges.get()).isEqualTo(1);
+		assertSuccess(first.get());
+		assertThat(second.get()).isEqualTo(first.get());
+	}
+
+	@Test
+	void duplicateAfterCompletionWithinTtlGetsSameRedirect() {
+		OAuthCallbackPipeline pipeline = newPipeline(Duration.ofSeconds(5));
+		Login login = login();
+		provider.complete();
+
+		ResponseEntity<Void> first = pipeline.handle("naver", "code-1", login.state(), login.binding(), null, null)
+				.block();
+		ResponseEntity<Void> second = pipeline.handle("naver", "code-1", login.state(), login.binding(), null, null)
+				.block();
+
+		// 재전송도 같은 JWT 리다이렉트와 refresh token 쿠키를 받고, 제공자는 한 번만 호출
+		assertSuccess(first);
+		assertThat(second).isEqualTo(first);
+		assertThat(second.getHeaders().get(HttpHeaders.SET_COOKIE))
+				.isEqualTo(first.getHeaders().get(HttpHeaders.SET_COOKIE));
+		assertThat(provider.exchanges.get()).isEqualTo(1);
+	}
+
+	@Test
+	void replayFromAnotherBrowserIsRejected() {
+		OAuthCallbackPipeline pipeline = newPipeline(Duration.ofSeconds(5));
+		Login login = login();
+		provider.complete();
+		assertSuccess(pipeline.handle("naver", "code-1", login.state(), login.binding(), null, null).block());
+
+		// 다른 브라우저의 binding 쿠키 또는 쿠키 없이 같은 콜백 URL을 보내면 캐시된 결과를 받지 못함
+		String otherBinding = login().binding();
+		assertInvalidState(pipeline.handle("naver", "code-1", login.state(), otherBinding, null, null).block());
+		assertInvalidState(pipeline.handle("naver", "code-1", login.state(), null, null, null).block());
+		assertThat(provider.exchanges.get()).isEqualTo(1);
+	}
+
+	@Test
+	void replayAfterTtlIsRejectedAsReusedState() throws InterruptedException {
+		OAuthCallbackPipeline pipeline = newPipeline(Duration.ofMillis(50));
+		Login login = login();
+		provider.complete();
+		assertSuccess(pipeline.handle("naver", "code-1", login.state(), login.binding(), null, null).block());
+
+		Thread.sleep(200);
+
+		assertInvalidState(pipeline.handle("naver", "code-1", login.state(), login.binding(), null, null).block());
+		assertThat(provider.exchanges.get()).isEqualTo(1);
+	}
+
+	@Test
+	void failedResultIsNotCached() {
+		OAuthCallbackPipeline pipeline = newPipeline(Duration.ofSeconds(5));
+		Login login = login();
+		provider.fail();
+
+		ResponseEntity<Void> first = pipeline.handle("naver", "code-1", login.state(), login.binding(), null, null)
+				.block();
+
+		assertThat(first.getHeaders().getLocation()).hasToString(CALLBACK_URL + "?error=login_failed");
+		// 실패 후 재전송은 state가 이미 사용되었으므로 invalid_state
+		assertInvalidState(pipeline.handle("naver", "code-1", login.state(), login.binding(), null, null).block());
+	}
+
+	private Login login() {
+		OAuthStateService.IssuedState issued = stateService.issue("naver", null);
+		String cookie = issued.bindingCookie();
+		return new Login(issued.state(), cookie.substring(OAuthStateService.BINDING_COOKIE.length() + 1,
+				cookie.indexOf(';')));
+	}
+
+	private OAuthCallbackPipeline newPipeline(Duration dedupTtl) {
+		JwtProperties jwtProperties = new JwtProperties();
+		jwtProperties.setSecret("callback-pipeline-test-secret-0123456789-abcdef");
+		RefreshTokenProperties refreshTokenProperties = new RefreshTokenProperties();
+		return new OAuthCallbackPipeline(
+				List.of(provider),
+				new JwtService(jwtProperties),
+				stateService,
+				new RefreshTokenStore(refreshTokenProperties),
+				new RefreshTokenCookies(refreshTokenProperties),
+				refreshTokenProperties,
+				new DefaultListableBeanFactory().getBeanProvider(OAuthCallbackListener.class),
+				CALLBACK_URL,
+				dedupTtl,
+				1000);
+	}
+
+	private static OAuthStateService newStateService() {
+		OAuthStateProperties properties = new OAuthStateProperties();
+		properties.setSecret("callback-pipeline-state-secret");
+		return new OAuthStateService(properties, new SimpleMeterRegistry());
+	}
+
+	private static void assertSuccess(ResponseEntity<Void> response) {
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FOUND);
+		assertThat(response.getHeaders().getLocation().toString()).startsWith(CALLBACK_URL + "?token=");
+		assertThat(response.getHeaders().getFirst(HttpHeaders.SET_COOKIE))
+				.startsWith(RefreshTokenCookies.COOKIE_NAME + "=");
+	}
+
+	private static void assertInvalidState(ResponseEntity<Void> response) {
+		assertThat(response.getHeaders().getLocation())
+				.hasToString(CALLBACK_URL + "?error=" + OAuthCallbackPipeline.INVALID_STATE);
+		assertThat(response.getHeaders().get(HttpHeaders.SET_COOKIE)).isNull();
+	}
+
+	private record Login(String state, String binding) {
+	}
+
+	// 토큰 교환 완료 시점을 테스트에서 제어하는 제공자
+	private static class StubProvider implements OAuthProvider<String> {
+
+		private final Sinks.One<String> token = Sinks.one();
+		private final AtomicInteger exchanges = new AtomicInteger();
+
+		@Override
+		public String getName() {
+			return "naver";
+		}
+
+		@Override
+		public Mono<String> exchange(String code, String codeVerifier) {
+			exchanges.incrementAndGet();
+			return token.asMono();
+		}
+
+		@Override
+		public Mono<OAuthIdentity> identify(String tokenResponse) {
+			return Mono.just(OAuthIdentity.of("naver", "1234", "닉네임"));
+		}
+
+		void complete() {
+			token.tryEmitValue("provider-token");
+		}
+
+		void fail() {
+			token.tryEmitError(new IllegalStateException("invalid_grant"));
+		}
+	}
+}
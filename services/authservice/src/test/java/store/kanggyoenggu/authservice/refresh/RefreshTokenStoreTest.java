@@ -0,0 +1,124 @@
+package store.kanggyoenggu.authservice.refresh;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RefreshTokenStoreTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void rotationIssuesNewTokenForSameSession() {
+		RefreshTokenStore store = newStore(Duration.ZERO, null);
+		String token = store.issue("kakao", 42L, "닉네임");
+
+		RefreshTokenStore.Rotation rotation = store.rotate(token);
+
+		assertThat(rotation.status()).isEqualTo(RefreshTokenStore.Status.ROTATED);
+		assertThat(rotation.token()).isNotEqualTo(token);
+		assertThat(rotation.provider()).isEqualTo("kakao");
+		assertThat(rotation.userId()).isEqualTo(42L);
+		assertThat(rotation.nickname()).isEqualTo("닉네임");
+		assertThat(store.rotate(rotation.token()).status()).isEqualTo(RefreshTokenStore.Status.ROTATED);
+	}
+
+	@Test
+	void unknownEmptyOrExpiredTokensAreInvalid() throws InterruptedException {
+		RefreshTokenStore store = newStore(Duration.ZERO, null);
+		assertThat(store.rotate("unknown").status()).isEqualTo(RefreshTokenStore.Status.INVALID);
+		assertThat(store.rotate("").status()).isEqualTo(RefreshTokenStore.Status.INVALID);
+		assertThat(store.rotate(null).status()).isEqualTo(RefreshTokenStore.Status.INVALID);
+
+		RefreshTokenProperties properties = new RefreshTokenProperties();
+		properties.setTtl(Duration.ofMillis(1));
+		RefreshTokenStore shortLived = new RefreshTokenStore(properties);
+		String token = shortLived.issue("kakao", 1L, "a");
+		Thread.sleep(5);
+		assertThat(shortLived.rotate(token).status()).isEqualTo(RefreshTokenStore.Status.INVALID);
+	}
+
+	@Test
+	void reuseOfRotatedTokenRevokesWholeFamily() {
+		RefreshTokenStore store = newStore(Duration.ZERO, null);
+		String first = store.issue("kakao", 1L, "a");
+		String other = store.issue("naver", 2L, "b");
+		String second = store.rotate(first).token();
+
+		assertThat(store.rotate(first).status()).isEqualTo(RefreshTokenStore.Status.REUSED);
+
+		// 탈취 의심: 같은 세션의 최신 토큰도 폐기, 다른 세션은 유지
+		assertThat(store.rotate(second).status()).isEqualTo(RefreshTokenStore.Status.INVALID);
+		assertThat(store.rotate(other).status()).isEqualTo(RefreshTokenStore.Status.ROTATED);
+	}
+
+	@Test
+	void concurrentRefreshWithinGraceIsNotReuse() {
+		RefreshTokenStore store = newStore(Duration.ofMinutes(1), null);
+		String token = store.issue("google", 3L, "c");
+
+		RefreshTokenStore.Rotation firstTab = store.rotate(token);
+		RefreshTokenStore.Rotation secondTab = store.rotate(token);
+
+		assertThat(firstTab.status()).isEqualTo(RefreshTokenStore.Status.ROTATED);
+		assertThat(secondTab.status()).isEqualTo(RefreshTokenStore.Status.ROTATED);
+		assertThat(secondTab.token()).isNotEqualTo(firstTab.token());
+		assertThat(store.rotate(firstTab.token()).status()).isEqualTo(RefreshTokenStore.Status.ROTATED);
+	}
+
+	@Test
+	void revokeRemovesEveryTokenOfTheSession() {
+		RefreshTokenStore store = newStore(Duration.ofMinutes(1), null);
+		String first = store.issue("kakao", 1L, "a");
+		String second = store.rotate(first).token();
+
+		store.revoke(second);
+
+		assertThat(store.rotate(first).status()).isEqualTo(RefreshTokenStore.Status.INVALID);
+		assertThat(store.rotate(second).status()).isEqualTo(RefreshTokenStore.Status.INVALID);
+		assertThat(store.size()).isZero();
+
+		store.revoke(null);
+		store.revoke("unknown");
+	}
+
+	@Test
+	void restoresTokensAndUsedStateFromFile() {
+		Path file = tempDir.resolve("refresh-tokens.bin");
+		RefreshTokenStore store = newStore(Duration.ZERO, file);
+		store.start();
+		String used = store.issue("kakao", 1L, "닉네임");
+		String current = store.rotate(used).token();
+		String revoked = store.issue("naver", 2L, "b");
+		store.revoke(revoked);
+		store.destroy();
+
+		RefreshTokenStore restored = newStore(Duration.ZERO, file);
+		restored.start();
+		try {
+			assertThat(restored.size()).isEqualTo(2);
+			assertThat(restored.rotate(revoked).status()).isEqualTo(RefreshTokenStore.Status.INVALID);
+
+			RefreshTokenStore.Rotation rotation = restored.rotate(current);
+			assertThat(rotation.status()).isEqualTo(RefreshTokenStore.Status.ROTATED);
+			assertThat(rotation.nickname()).isEqualTo("닉네임");
+
+			// 사용 표시도 복원되므로 이전 토큰 재사용은 감지됨
+			assertThat(restored.rotate(used).status()).isEqualTo(RefreshTokenStore.Status.REUSED);
+		} finally {
+			restored.destroy();
+		}
+	}
+
+	private static RefreshTokenStore newStore(Duration reuseGrace, Path file) {
+		RefreshTokenProperties properties = new RefreshTokenProperties();
+		properties.setReuseGrace(reuseGrace);
+		properties.setStoreFile(file != null ? file.toString() : null);
+		return new RefreshTokenStore(properties);
+	}
+}
@@ -0,0 +1,85 @@
+package store.kanggyoenggu.authservice.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import reactor.core.Disposable;
+
+class ProviderBulkheadTest {
+
+	@Test
+	void queuesBeyondConcurrencyAndHandsPermitToNextWaiter() {
+		ProviderBulkhead bulkhead = newBulkhead(Duration.ofSeconds(5));
+		ProviderBulkhead.Permit first = bulkhead.acquire().block();
+
+		AtomicReference<ProviderBulkhead.Permit> queued = new AtomicReference<>();
+		bulkhead.acquire().subscribe(queued::set);
+		assertThat(queued.get()).isNull();
+		assertThat(bulkhead.queuedCalls()).isEqualTo(1);
+
+		first.release();
+
+		assertThat(queued.get()).isNotNull();
+		assertThat(bulkhead.activeCalls()).isEqualTo(1);
+		assertThat(bulkhead.queuedCalls()).isZero();
+
+		// release는 한 번만 반납
+		queued.get().release();
+		queued.get().release();
+		assertThat(bulkhead.activeCalls()).isZero();
+	}
+
+	@Test
+	void rejectsImmediatelyWhenQueueIsFull() {
+		ProviderBulkhead bulkhead = newBulkhead(Duration.ofSeconds(5));
+		bulkhead.acquire().block();
+		Disposable waiting = bulkhead.acquire().subscribe();
+
+		assertThatThrownBy(() -> bulkhead.acquire().block())
+				.isInstanceOf(ProviderUnavailableException.class)
+				.extracting("reason").isEqualTo(ProviderUnavailableException.BULKHEAD_FULL);
+		waiting.dispose();
+	}
+
+	@Test
+	void waiterTimesOutAfterMaxWaitAndLeavesQueue() {
+		ProviderBulkhead bulkhead = newBulkhead(Duration.ofMillis(100));
+		ProviderBulkhead.Permit held = bulkhead.acquire().block();
+
+		assertThatThrownBy(() -> bulkhead.acquire().block(Duration.ofSeconds(5)))
+				.isInstanceOf(ProviderUnavailableException.class)
+				.extracting("reason").isEqualTo(ProviderUnavailableException.BULKHEAD_FULL);
+		assertThat(bulkhead.queuedCalls()).isZero();
+
+		held.release();
+		assertThat(bulkhead.activeCalls()).isZero();
+	}
+
+	@Test
+	void cancelledWaiterDoesNotKeepPermit() {
+		ProviderBulkhead bulkhead = newBulkhead(Duration.ofSeconds(5));
+		ProviderBulkhead.Permit held = bulkhead.acquire().block();
+		Disposable waiting = bulkhead.acquire().subscribe();
+
+		waiting.dispose();
+		assertThat(bulkhead.queuedCalls()).isZero();
+
+		held.release();
+		assertThat(bulkhead.activeCalls()).isZero();
+		assertThat(bulkhead.acquire().block()).isNotNull();
+	}
+
+	// 동시 호출 1, 대기열 1
+	private static ProviderBulkhead newBulkhead(Duration maxWait) {
+		ProviderResilienceProperties.Bulkhead properties = new ProviderResilienceProperties.Bulkhead();
+		properties.setMaxConcurrentCalls(1);
+		properties.setMaxQueuedCalls(1);
+		properties.setMaxWait(maxWait);
+		return new ProviderBulkhead("kakao", properties);
+	}
+}
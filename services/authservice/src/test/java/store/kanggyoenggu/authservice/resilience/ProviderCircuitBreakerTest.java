@@ -0,0 +1,129 @@
+package store.kanggyoenggu.authservice.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class ProviderCircuitBreakerTest {
+
+	private static final long OPEN_NANOS = Duration.ofSeconds(30).toNanos();
+
+	@Test
+	void staysClosedUntilMinimumCallsReached() {
+		ProviderCircuitBreaker breaker = newBreaker();
+
+		for (int i = 0; i < 3; i++) {
+			breaker.onFailure(breaker.tryAcquire(0), 0);
+		}
+
+		assertThat(breaker.state()).isEqualTo(ProviderCircuitBreaker.State.CLOSED);
+		assertThat(breaker.failureRate()).isEqualTo(-1f);
+		assertThat(breaker.bufferedCalls()).isEqualTo(3);
+	}
+
+	@Test
+	void opensAtFailureRateThresholdAndRejectsUntilOpenDurationPasses() {
+		ProviderCircuitBreaker breaker = openedAt(1_000);
+
+		assertThat(breaker.state()).isEqualTo(ProviderCircuitBreaker.State.OPEN);
+		assertThat(breaker.tryAcquire(1_000 + OPEN_NANOS - 1)).isEqualTo(ProviderCircuitBreaker.REJECTED);
+
+		long generation = breaker.tryAcquire(1_000 + OPEN_NANOS);
+		assertThat(generation).isNotEqualTo(ProviderCircuitBreaker.REJECTED);
+		assertThat(breaker.state()).isEqualTo(ProviderCircuitBreaker.State.HALF_OPEN);
+	}
+
+	@Test
+	void halfOpenClosesAfterAllTrialCallsSucceed() {
+		ProviderCircuitBreaker breaker = openedAt(0);
+		long first = breaker.tryAcquire(OPEN_NANOS);
+		long second = breaker.tryAcquire(OPEN_NANOS);
+
+		// 시험 호출 수(2)를 넘는 호출은 거절
+		assertThat(breaker.tryAcquire(OPEN_NANOS)).isEqualTo(ProviderCircuitBreaker.REJECTED);
+
+		breaker.onSuccess(first);
+		assertThat(breaker.state()).isEqualTo(ProviderCircuitBreaker.State.HALF_OPEN);
+		breaker.onSuccess(second);
+
+		assertThat(breaker.state()).isEqualTo(ProviderCircuitBreaker.State.CLOSED);
+		assertThat(breaker.bufferedCalls()).isZero();
+	}
+
+	@Test
+	void halfOpenFailureOpensAgain() {
+		ProviderCircuitBreaker breaker = openedAt(0);
+		long trial = breaker.tryAcquire(OPEN_NANOS);
+
+		breaker.onFailure(trial, OPEN_NANOS);
+
+		assertThat(breaker.state()).isEqualTo(ProviderCircuitBreaker.State.OPEN);
+		assertThat(breaker.tryAcquire(OPEN_NANOS + 1)).isEqualTo(ProviderCircuitBreaker.REJECTED);
+		assertThat(breaker.tryAcquire(2 * OPEN_NANOS)).isNotEqualTo(ProviderCircuitBreaker.REJECTED);
+	}
+
+	@Test
+	void cancelledTrialCallReturnsItsSlot() {
+		ProviderCircuitBreaker breaker = openedAt(0);
+		long first = breaker.tryAcquire(OPEN_NANOS);
+		breaker.tryAcquire(OPEN_NANOS);
+
+		breaker.onCancel(first);
+
+		assertThat(breaker.tryAcquire(OPEN_NANOS)).isNotEqualTo(ProviderCircuitBreaker.REJECTED);
+	}
+
+	@Test
+	void ignoresResultsFromPreviousState() {
+		ProviderCircuitBreaker breaker = newBreaker();
+		long stale = breaker.tryAcquire(0);
+		for (int i = 0; i < 4; i++) {
+			breaker.onFailure(breaker.tryAcquire(0), 0);
+		}
+		assertThat(breaker.state()).isEqualTo(ProviderCircuitBreaker.State.OPEN);
+		long trial = breaker.tryAcquire(OPEN_NANOS);
+
+		// OPEN 전에 시작한 호출의 결과는 HALF_OPEN 판정에 쓰지 않음
+		breaker.onFailure(stale, OPEN_NANOS);
+		assertThat(breaker.state()).isEqualTo(ProviderCircuitBreaker.State.HALF_OPEN);
+		breaker.onSuccess(trial);
+		assertThat(breaker.state()).isEqualTo(ProviderCircuitBreaker.State.HALF_OPEN);
+	}
+
+	@Test
+	void slidingWindowForgetsOldFailures() {
+		ProviderCircuitBreaker breaker = newBreaker();
+		breaker.onFailure(breaker.tryAcquire(0), 0);
+		for (int i = 0; i < 4; i++) {
+			breaker.onSuccess(breaker.tryAcquire(0));
+		}
+
+		// 창 크기 4: 첫 실패는 밀려남
+		assertThat(breaker.failureRate()).isZero();
+		breaker.onFailure(breaker.tryAcquire(0), 0);
+		assertThat(breaker.failureRate()).isEqualTo(25f);
+		assertThat(breaker.state()).isEqualTo(ProviderCircuitBreaker.State.CLOSED);
+	}
+
+	// 창 4건, 최소 4건, 실패율 50%, 차단 30초, 시험 호출 2건
+	private static ProviderCircuitBreaker newBreaker() {
+		ProviderResilienceProperties.CircuitBreaker properties = new ProviderResilienceProperties.CircuitBreaker();
+		properties.setSlidingWindowSize(4);
+		properties.setMinimumCalls(4);
+		properties.setFailureRateThreshold(50);
+		properties.setOpenDuration(Duration.ofNanos(OPEN_NANOS));
+		properties.setHalfOpenCalls(2);
+		return new ProviderCircuitBreaker(properties);
+	}
+
+	private static ProviderCircuitBreaker openedAt(long now) {
+		ProviderCircuitBreaker breaker = newBreaker();
+		breaker.onSuccess(breaker.tryAcquire(now));
+		breaker.onSuccess(breaker.tryAcquire(now));
+		breaker.onFailure(breaker.tryAcquire(now), now);
+		breaker.onFailure(breaker.tryAcquire(now), now);
+		return breaker;
+	}
+}
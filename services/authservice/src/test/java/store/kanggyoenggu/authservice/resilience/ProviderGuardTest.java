@@ -0,0 +1,100 @@
+package store.kanggyoenggu.authservice.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class ProviderGuardTest {
+
+	@Test
+	void timesOutProviderThatStallsAfterHeaders() {
+		ProviderGuard guard = newGuard(Duration.ofMillis(200));
+		// 헤더와 본문 일부만 보내고 나머지를 보내지 않는 제공자
+		WebClient client = client(guard, HttpStatus.OK, chunk("{\"access_token\":").concatWith(Flux.never()));
+
+		long start = System.nanoTime();
+		// 본문 오류는 WebClient가 WebClientResponseException으로 감싸서 전달
+		assertThatThrownBy(() -> call(client).block(Duration.ofSeconds(5)))
+				.satisfies(e -> assertThat(ProviderUnavailableException.isCauseOf(e)).isTrue())
+				.rootCause()
+				.isInstanceOf(ProviderUnavailableException.class)
+				.extracting("reason").isEqualTo(ProviderUnavailableException.TIMEOUT);
+
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+		assertThat(guard.activeCalls()).isZero();
+		assertThat(guard.bufferedCalls()).isEqualTo(1);
+		assertThat(guard.failureRate()).isEqualTo(-1f);
+	}
+
+	@Test
+	void holdsBulkheadPermitUntilBodyIsRead() {
+		ProviderGuard guard = newGuard(Duration.ofSeconds(5));
+		Sinks.Many<DataBuffer> body = Sinks.many().unicast().onBackpressureBuffer();
+		WebClient client = client(guard, HttpStatus.OK, body.asFlux());
+
+		AtomicReference<String> result = new AtomicReference<>();
+		call(client).subscribe(result::set);
+
+		// 헤더를 받은 뒤에도 본문을 읽는 동안은 동시 호출 1건으로 계속 집계
+		assertThat(guard.activeCalls()).isEqualTo(1);
+		assertThatThrownBy(() -> call(client).block(Duration.ofSeconds(5)))
+				.isInstanceOf(ProviderUnavailableException.class)
+				.extracting("reason").isEqualTo(ProviderUnavailableException.BULKHEAD_FULL);
+
+		body.tryEmitNext(DefaultDataBufferFactory.sharedInstance.wrap("ok".getBytes(StandardCharsets.UTF_8)));
+		body.tryEmitComplete();
+
+		assertThat(result.get()).isEqualTo("ok");
+		assertThat(guard.activeCalls()).isZero();
+		assertThat(guard.state()).isEqualTo(ProviderCircuitBreaker.State.CLOSED);
+	}
+
+	@Test
+	void countsServerErrorAsFailureAndReleasesPermit() {
+		ProviderGuard guard = newGuard(Duration.ofSeconds(5));
+		WebClient client = client(guard, HttpStatus.SERVICE_UNAVAILABLE, chunk("down"));
+
+		assertThatThrownBy(() -> call(client).block(Duration.ofSeconds(5))).isNotNull();
+
+		assertThat(guard.activeCalls()).isZero();
+		assertThat(guard.bufferedCalls()).isEqualTo(1);
+	}
+
+	// 동시 호출 1, 대기열 0, 최소 호출 수 10 (차단되지 않는 범위에서 집계만 확인)
+	private static ProviderGuard newGuard(Duration timeout) {
+		ProviderResilienceProperties properties = new ProviderResilienceProperties();
+		properties.setTimeout(timeout);
+		properties.getBulkhead().setMaxConcurrentCalls(1);
+		properties.getBulkhead().setMaxQueuedCalls(0);
+		return new ProviderGuard("kakao", properties);
+	}
+
+	private static WebClient client(ProviderGuard guard, HttpStatus status, Flux<DataBuffer> body) {
+		return WebClient.builder()
+				.exchangeFunction(request -> Mono.just(ClientResponse.create(status).body(body).build()))
+				.filter(guard)
+				.build();
+	}
+
+	private static Mono<String> call(WebClient client) {
+		return client.post().uri("http://provider.test/oauth/token").retrieve().bodyToMono(String.class);
+	}
+
+	private static Flux<DataBuffer> chunk(String value) {
+		return Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(value.getBytes(StandardCharsets.UTF_8)));
+	}
+}
@@ -0,0 +1,139 @@
+package store.kanggyoenggu.authservice.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OAuthStateServiceTest {
+
+	private static final String SECRET = "test-state-secret";
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+	@Test
+	void verifiesStateIssuedToSameBrowser() throws Exception {
+		OAuthStateService service = newService(true);
+		OAuthStateService.IssuedState issued = service.issue("kakao", null);
+		String binding = bindingOf(issued);
+
+		OAuthStateService.VerifiedState verified = service.verify("kakao", issued.state(), binding);
+
+		assertThat(verified).isNotNull();
+		assertThat(verified.codeVerifier()).hasSize(43);
+		// 로그인 URL의 code_challenge는 콜백에서 다시 계산한 verifier의 S256
+		byte[] digest = MessageDigest.getInstance("SHA-256")
+				.digest(verified.codeVerifier().getBytes(StandardCharsets.US_ASCII));
+		assertThat(issued.codeChallenge()).isEqualTo(ENCODER.encodeToString(digest));
+		assertThat(issued.toQuery()).contains("&code_challenge_method=S256");
+	}
+
+	@Test
+	void rejectsTamperedOtherProviderOrOtherBrowser() {
+		OAuthStateService service = newService(true);
+		OAuthStateService.IssuedState issued = service.issue("kakao", null);
+		String binding = bindingOf(issued);
+		String state = issued.state();
+		String tampered = state.substring(0, state.length() - 2) + (state.endsWith("AA") ? "BB" : "AA");
+
+		assertThat(service.verify("kakao", tampered, binding)).isNull();
+		assertThat(service.verify("google", state, binding)).isNull();
+		assertThat(service.verify("kakao", state, bindingOf(service.issue("kakao", null)))).isNull();
+		assertThat(service.verify("kakao", state, null)).isNull();
+		assertThat(service.verify("kakao", "not-a-state", binding)).isNull();
+	}
+
+	@Test
+	void rejectsExpiredOrTooFarFutureState() throws Exception {
+		OAuthStateService service = newService(true);
+		String binding = bindingOf(service.issue("kakao", null));
+		long now = System.currentTimeMillis() / 1000;
+
+		assertThat(service.verify("kakao", signedState("kakao", now - 1, binding), binding)).isNull();
+		assertThat(service.verify("kakao", signedState("kakao", now + Duration.ofHours(1).toSeconds(), binding),
+				binding)).isNull();
+		assertThat(service.verify("kakao", signedState("kakao", now + 60, binding), binding)).isNotNull();
+	}
+
+	@Test
+	void stateCanBeUsedOnlyOnce() {
+		OAuthStateService service = newService(true);
+		OAuthStateService.IssuedState issued = service.issue("naver", null);
+		String binding = bindingOf(issued);
+
+		OAuthStateService.VerifiedState first = service.verify("naver", issued.state(), binding);
+		OAuthStateService.VerifiedState second = service.verify("naver", issued.state(), binding);
+
+		// 검증만으로는 사용 처리되지 않고, markUsed가 처음 한 번만 성공
+		assertThat(second).isNotNull();
+		assertThat(service.markUsed(first)).isTrue();
+		assertThat(service.markUsed(second)).isFalse();
+	}
+
+	@Test
+	void reusesExistingBindingAcrossLogins() {
+		OAuthStateService service = newService(true);
+		String binding = bindingOf(service.issue("kakao", null));
+
+		OAuthStateService.IssuedState next = service.issue("google", binding);
+
+		assertThat(bindingOf(next)).isEqualTo(binding);
+		assertThat(next.bindingCookie()).contains("HttpOnly").contains("SameSite=Lax").contains("Path=/");
+		assertThat(service.verify("google", next.state(), binding)).isNotNull();
+	}
+
+	@Test
+	void naverStateHasNoPkce() {
+		OAuthStateService service = newService(true);
+		OAuthStateService.IssuedState issued = service.issue("naver", null);
+
+		assertThat(issued.codeChallenge()).isNull();
+		assertThat(issued.toQuery()).doesNotContain("code_challenge");
+		assertThat(service.verify("naver", issued.state(), bindingOf(issued)).codeVerifier()).isNull();
+	}
+
+	@Test
+	void missingStateDependsOnRequiredFlag() {
+		assertThat(newService(true).verify("kakao", null, null)).isNull();
+
+		OAuthStateService optional = newService(false);
+		OAuthStateService.VerifiedState verified = optional.verify("kakao", null, null);
+		assertThat(verified).isSameAs(OAuthStateService.VerifiedState.NONE);
+		assertThat(optional.markUsed(verified)).isTrue();
+		assertThat(optional.markUsed(verified)).isTrue();
+	}
+
+	private static OAuthStateService newService(boolean required) {
+		OAuthStateProperties properties = new OAuthStateProperties();
+		properties.setSecret(SECRET);
+		properties.setRequired(required);
+		return new OAuthStateService(properties, new SimpleMeterRegistry());
+	}
+
+	// Set-Cookie 헤더에서 binding 값 추출
+	private static String bindingOf(OAuthStateService.IssuedState issued) {
+		String cookie = issued.bindingCookie();
+		return cookie.substring(OAuthStateService.BINDING_COOKIE.length() + 1, cookie.indexOf(';'));
+	}
+
+	// 같은 secret으로 만료 시각을 지정해 서명한 state
+	private static String signedState(String provider, long expiresAt, String binding) throws Exception {
+		byte[] payload = ByteBuffer.allocate(Long.BYTES + 16).putLong(expiresAt).putLong(42).putLong(7).array();
+		Mac mac = Mac.getInstance("HmacSHA256");
+		mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+		mac.update(provider.getBytes(StandardCharsets.US_ASCII));
+		mac.update(payload);
+		byte[] signature = Arrays.copyOf(mac.doFinal(Base64.getUrlDecoder().decode(binding)), 16);
+		return ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(signature);
+	}
+}
@@ -0,0 +1,162 @@
+package store.kanggyoenggu.loadgen;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+// 고정 도착률 부하 생성
+// 요청은 미리 정한 시각(start + i / rate)에 응답을 기다리지 않고 보내며(open model),
+// 지연 시간은 그 시각부터 응답 완료까지로 측정 (coordinated omission 방지)
+// 성공 기준: 302 + Location에 token= 포함 (에러 리다이렉트는 error 값별로 집계)
+@Slf4j
+@Component
+public class LoadGenerator implements CommandLineRunner {
+
+    private final LoadGeneratorProperties properties;
+
+    public LoadGenerator(LoadGeneratorProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        List<String> callbackUrls = properties.getProviders().stream()
+                .map(provider -> properties.getTargetUrl()
+                        + properties.getCallbackPath().replace("{provider}", provider)
+                        + "?code=lg-")
+                .toList();
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        LoadResults results = new LoadResults();
+        AtomicInteger inFlight = new AtomicInteger();
+
+        double nanosPerRequest = TimeUnit.SECONDS.toNanos(1) / (double) properties.getRate();
+        long start = System.nanoTime();
+        long measureStart = start + properties.getWarmup().toNanos();
+        long end = measureStart + properties.getDuration().toNanos();
+
+        log.info("부하 시작: {} req/s, 워밍업 {}, 측정 {}, 대상 {}", properties.getRate(),
+                properties.getWarmup(), properties.getDuration(), callbackUrls);
+
+        for (long i = 0; ; i++) {
+            long intended = start + (long) (i * nanosPerRequest);
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            boolean measured = intended >= measureStart;
+            if (inFlight.get() >= properties.getMaxInFlight()) {
+                if (measured) {
+                    results.dropped();
+                }
+                continue;
+            }
+
+            String url = callbackUrls.get((int) (i % callbackUrls.size())) + (i % properties.getUsers());
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(properties.getRequestTimeout())
+                    .GET()
+                    .build();
+
+            inFlight.incrementAndGet();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        long latency = System.nanoTime() - intended;
+                        inFlight.decrementAndGet();
+                        if (measured) {
+                            results.record(latency, classify(response, error));
+                        }
+                    });
+        }
+
+        // 남은 요청 대기 (최대 request-timeout)
+        long drainDeadline = System.nanoTime() + properties.getRequestTimeout().toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+
+        report(results);
+    }
+
+    private static String classify(HttpResponse<Void> response, Throwable error) {
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause()
+                    : error;
+            return cause instanceof HttpTimeoutException ? "timeout" : "io_error";
+        }
+        if (response.statusCode() != 302) {
+            return "http_" + response.statusCode();
+        }
+        String location = response.headers().firstValue("Location").orElse("");
+        if (location.contains("?token=")) {
+            return LoadResults.SUCCESS;
+        }
+        int errorIndex = location.indexOf("error=");
+        if (errorIndex < 0) {
+            return "redirect_without_token";
+        }
+        int endIndex = location.indexOf('&', errorIndex);
+        String errorValue = location.substring(errorIndex + 6, endIndex < 0 ? location.length() : endIndex);
+        return "error:" + URLDecoder.decode(errorValue, StandardCharsets.UTF_8);
+    }
+
+    private void report(LoadResults results) throws IOException {
+        Histogram histogram = results.latencyMicros();
+        double seconds = properties.getDuration().toNanos() / (double) TimeUnit.SECONDS.toNanos(1);
+        long completed = histogram.getTotalCount();
+        long succeeded = results.count(LoadResults.SUCCESS);
+
+        log.info("=== 로그인 콜백 부하 테스트 결과 ===");
+        log.info("목표 {} req/s, 측정 {}s", properties.getRate(), seconds);
+        log.info("처리량: 완료 {} req/s, 성공 {} req/s",
+                String.format("%.1f", completed / seconds), String.format("%.1f", succeeded / seconds));
+        log.info("지연(ms): p50={} p90={} p99={} p99.9={} max={} mean={}",
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()),
+                String.format("%.3f", histogram.getMean() / 1000.0));
+        log.info("결과별 건수: {}", results.outcomes());
+
+        String histogramFile = properties.getHistogramFile();
+        if (histogramFile != null && !histogramFile.isBlank()) {
+            try (PrintStream out = new PrintStream(new FileOutputStream(histogramFile), true, StandardCharsets.UTF_8)) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+            log.info("지연 분포 저장: {}", histogramFile);
+        }
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.3f", micros / 1000.0);
+    }
+}
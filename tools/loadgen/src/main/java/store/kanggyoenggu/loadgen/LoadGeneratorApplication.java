@@ -0,0 +1,14 @@
+package store.kanggyoenggu.loadgen;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+// 로그인 콜백 부하 생성기
+// 실행: gradle :tools:loadgen:bootRun --args='--loadgen.rate=500 --loadgen.duration=60s'
+@SpringBootApplication
+public class LoadGeneratorApplication {
+
+    public static void main(String[] args) {
+        System.exit(SpringApplication.exit(SpringApplication.run(LoadGeneratorApplication.class, args)));
+    }
+}
@@ -0,0 +1,47 @@
+package store.kanggyoenggu.loadgen;
+
+import java.time.Duration;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+// 부하 생성 설정 Properties
+@Configuration
+@ConfigurationProperties(prefix = "loadgen")
+@Getter
+@Setter
+public class LoadGeneratorProperties {
+
+    // Gateway 주소
+    private String targetUrl = "http://localhost:8080";
+
+    // 콜백 경로 ({provider} 치환)
+    private String callbackPath = "/oauth2/{provider}/callback";
+
+    // 요청마다 순서대로 돌아가며 사용할 제공자
+    private List<String> providers = List.of("kakao", "naver", "google");
+
+    // 초당 요청 수
+    private int rate = 200;
+
+    // 측정 시간 (워밍업 제외)
+    private Duration duration = Duration.ofSeconds(30);
+
+    // 워밍업 시간
+    private Duration warmup = Duration.ofSeconds(10);
+
+    // 서로 다른 사용자 수
+    private int users = 10000;
+
+    // 동시 처리 중 요청 상한
+    private int maxInFlight = 2000;
+
+    // 요청 타임아웃
+    private Duration requestTimeout = Duration.ofSeconds(10);
+
+    // 지연 분포(.hgrm) 저장 경로 (비어 있으면 저장하지 않음)
+    private String histogramFile;
+}
@@ -0,0 +1,51 @@
+package store.kanggyoenggu.loadgen;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+// 측정 구간 결과 집계
+// 지연 시간은 "보내려던 시각"부터 측정하므로 서버가 느려져 요청이 밀려도 대기 시간이 빠지지 않음
+class LoadResults {
+
+    static final String SUCCESS = "success";
+    static final String DROPPED = "dropped";
+
+    // 1µs ~ 60s, 유효 숫자 3자리
+    private final Histogram latencyMicros = new ConcurrentHistogram(TimeUnit.SECONDS.toMicros(60), 3);
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    void record(long latencyNanos, String outcome) {
+        latencyMicros.recordValue(Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(latencyNanos), 1),
+                latencyMicros.getHighestTrackableValue()));
+        increment(outcome);
+    }
+
+    void dropped() {
+        increment(DROPPED);
+    }
+
+    Histogram latencyMicros() {
+        return latencyMicros;
+    }
+
+    long count(String outcome) {
+        LongAdder adder = outcomes.get(outcome);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    Map<String, Long> outcomes() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        outcomes.forEach((outcome, adder) -> snapshot.put(outcome, adder.sum()));
+        return snapshot;
+    }
+
+    private void increment(String outcome) {
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+    }
+}
@@ -0,0 +1,45 @@
+package store.kanggyoenggu.oauthstub;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import reactor.core.publisher.Mono;
+
+// 제공자별 지연/에러 주입
+// 지연은 Mono.delay(논블로킹)로 주입하므로 대역 서버 자체가 병목이 되지 않음
+@Component
+public class FaultInjector {
+
+    private final StubProperties properties;
+
+    public FaultInjector(StubProperties properties) {
+        this.properties = properties;
+    }
+
+    public Mono<ResponseEntity<Object>> respond(String provider, Supplier<Object> body) {
+        StubProperties.Fault fault = properties.forProvider(provider);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        long delayNanos = fault.getLatency().toNanos();
+        long jitterNanos = fault.getJitter().toNanos();
+        if (jitterNanos > 0) {
+            delayNanos += random.nextLong(jitterNanos + 1);
+        }
+        boolean fail = fault.getErrorRate() > 0 && random.nextDouble() < fault.getErrorRate();
+
+        Mono<ResponseEntity<Object>> response = Mono.fromSupplier(() -> fail
+                ? ResponseEntity.status(HttpStatus.valueOf(fault.getErrorStatus()))
+                        .body(Map.of("error", "server_error", "error_description", "injected by oauth-stub"))
+                : ResponseEntity.ok(body.get()));
+
+        return delayNanos > 0
+                ? Mono.delay(Duration.ofNanos(delayNanos)).then(response)
+                : response;
+    }
+}
@@ -0,0 +1,78 @@
+package store.kanggyoenggu.oauthstub;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+
+import reactor.core.publisher.Mono;
+
+// 구글 대역
+// auth-service 설정: GOOGLE_TOKEN_URI=http://localhost:9090/google/token 등
+@RestController
+@RequestMapping("/google")
+public class GoogleStubController {
+
+    private static final String PROVIDER = "google";
+
+    private final FaultInjector faultInjector;
+    private final IdTokenIssuer idTokenIssuer;
+
+    public GoogleStubController(FaultInjector faultInjector, IdTokenIssuer idTokenIssuer) {
+        this.faultInjector = faultInjector;
+        this.idTokenIssuer = idTokenIssuer;
+    }
+
+    // POST /google/token
+    @PostMapping("/token")
+    public Mono<ResponseEntity<Object>> token(ServerWebExchange exchange) {
+        return exchange.getFormData().flatMap(form -> faultInjector.respond(PROVIDER, () -> {
+            long userId = StubUsers.userId(form.getFirst("code"));
+
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("access_token", StubUsers.accessToken(PROVIDER, userId));
+            body.put("token_type", "Bearer");
+            body.put("expires_in", 3599);
+            body.put("scope", "openid profile");
+            if (idTokenIssuer.isEnabled()) {
+                body.put("id_token", idTokenIssuer.issue(PROVIDER, form.getFirst("client_id"), userId,
+                        Map.of("name", StubUsers.nickname(userId))));
+            }
+            return body;
+        }));
+    }
+
+    // GET /google/oauth2/v2/userinfo
+    @GetMapping("/oauth2/v2/userinfo")
+    public Mono<ResponseEntity<Object>> userInfo(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        long userId = StubUsers.userIdFromToken(authorization);
+        if (userId < 0) {
+            return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("error", Map.of("code", 401, "status", "UNAUTHENTICATED"))));
+        }
+        return faultInjector.respond(PROVIDER, () -> Map.of(
+                "id", String.valueOf(userId),
+                "name", StubUsers.nickname(userId)));
+    }
+
+    // POST /google/revoke
+    @PostMapping("/revoke")
+    public Mono<ResponseEntity<Object>> revoke() {
+        return faultInjector.respond(PROVIDER, Map::of);
+    }
+
+    // GET /google/oauth2/v3/certs
+    @GetMapping("/oauth2/v3/certs")
+    public Map<String, Object> jwks() {
+        return idTokenIssuer.jwks();
+    }
+}
@@ -0,0 +1,63 @@
+package store.kanggyoenggu.oauthstub;
+
+import java.security.KeyPair;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.RsaPublicJwk;
+import org.springframework.stereotype.Component;
+
+// 대역 id_token 발급
+// 기동 시 RSA 키를 만들어 RS256으로 서명하고, 공개키는 JWKS로 제공
+@Component
+public class IdTokenIssuer {
+
+    private static final long ID_TOKEN_TTL_MILLIS = 60 * 60 * 1000L;
+
+    private final StubProperties properties;
+    private final KeyPair keyPair;
+    private final String keyId;
+    private final Map<String, Object> jwks;
+
+    public IdTokenIssuer(StubProperties properties) {
+        this.properties = properties;
+        this.keyPair = Jwts.SIG.RS256.keyPair().build();
+
+        RsaPublicJwk jwk = Jwks.builder()
+                .key((RSAPublicKey) keyPair.getPublic())
+                .idFromThumbprint()
+                .algorithm("RS256")
+                .publicKeyUse("sig")
+                .build();
+        this.keyId = jwk.getId();
+        this.jwks = Map.of("keys", List.of(jwk));
+    }
+
+    public boolean isEnabled() {
+        return properties.isIdTokenEnabled();
+    }
+
+    // audience: 토큰 요청의 client_id
+    public String issue(String provider, String audience, long userId, Map<String, Object> claims) {
+        long now = System.currentTimeMillis();
+
+        return Jwts.builder()
+                .header().keyId(keyId).and()
+                .issuer(properties.issuer(provider))
+                .audience().add(audience).and()
+                .subject(String.valueOf(userId))
+                .claims(claims)
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + ID_TOKEN_TTL_MILLIS))
+                .signWith(keyPair.getPrivate())
+                .compact();
+    }
+
+    public Map<String, Object> jwks() {
+        return jwks;
+    }
+}
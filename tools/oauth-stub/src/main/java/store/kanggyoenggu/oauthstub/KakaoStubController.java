@@ -0,0 +1,103 @@
+package store.kanggyoenggu.oauthstub;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+
+import reactor.core.publisher.Mono;
+
+// 카카오 대역
+// auth-service 설정: KAKAO_TOKEN_URI=http://localhost:9090/kakao/oauth/token 등
+@RestController
+@RequestMapping("/kakao")
+public class KakaoStubController {
+
+    private static final String PROVIDER = "kakao";
+
+    private final FaultInjector faultInjector;
+    private final IdTokenIssuer idTokenIssuer;
+
+    public KakaoStubController(FaultInjector faultInjector, IdTokenIssuer idTokenIssuer) {
+        this.faultInjector = faultInjector;
+        this.idTokenIssuer = idTokenIssuer;
+    }
+
+    // POST /kakao/oauth/token
+    @PostMapping("/oauth/token")
+    public Mono<ResponseEntity<Object>> token(ServerWebExchange exchange) {
+        return exchange.getFormData().flatMap(form -> faultInjector.respond(PROVIDER, () -> {
+            long userId = StubUsers.userId(form.getFirst("code"));
+
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("access_token", StubUsers.accessToken(PROVIDER, userId));
+            body.put("token_type", "bearer");
+            body.put("refresh_token", StubUsers.refreshToken(PROVIDER, userId));
+            body.put("expires_in", 21599);
+            body.put("scope", "openid profile_nickname");
+            body.put("refresh_token_expires_in", 5183999);
+            if (idTokenIssuer.isEnabled()) {
+                body.put("id_token", idTokenIssuer.issue(PROVIDER, form.getFirst("client_id"), userId,
+                        Map.of("nickname", StubUsers.nickname(userId))));
+            }
+            return body;
+        }));
+    }
+
+    // GET /kakao/v2/user/me
+    @GetMapping("/v2/user/me")
+    public Mono<ResponseEntity<Object>> userInfo(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        long userId = StubUsers.userIdFromToken(authorization);
+        if (userId < 0) {
+            return unauthorized();
+        }
+        return faultInjector.respond(PROVIDER, () -> Map.of(
+                "id", userId,
+                "connected_at", "2025-01-01T00:00:00Z",
+                "kakao_account", Map.of(
+                        "profile_nickname_needs_agreement", false,
+                        "profile", Map.of("nickname", StubUsers.nickname(userId), "is_default_image", true))));
+    }
+
+    // POST /kakao/v1/user/logout
+    @PostMapping("/v1/user/logout")
+    public Mono<ResponseEntity<Object>> logout(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        return userIdResponse(authorization);
+    }
+
+    // POST /kakao/v1/user/unlink
+    @PostMapping("/v1/user/unlink")
+    public Mono<ResponseEntity<Object>> unlink(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        return userIdResponse(authorization);
+    }
+
+    // GET /kakao/.well-known/jwks.json
+    @GetMapping("/.well-known/jwks.json")
+    public Map<String, Object> jwks() {
+        return idTokenIssuer.jwks();
+    }
+
+    private Mono<ResponseEntity<Object>> userIdResponse(String authorization) {
+        long userId = StubUsers.userIdFromToken(authorization);
+        if (userId < 0) {
+            return unauthorized();
+        }
+        return faultInjector.respond(PROVIDER, () -> Map.of("id", userId));
+    }
+
+    private static Mono<ResponseEntity<Object>> unauthorized() {
+        return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(Map.of("msg", "this access token does not exist", "code", -401)));
+    }
+}
@@ -0,0 +1,65 @@
+package store.kanggyoenggu.oauthstub;
+
+import java.util.Map;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+
+import reactor.core.publisher.Mono;
+
+// 네이버 대역 (id_token 없음)
+// auth-service 설정: NAVER_TOKEN_URI=http://localhost:9090/naver/oauth2.0/token 등
+@RestController
+@RequestMapping("/naver")
+public class NaverStubController {
+
+    private static final String PROVIDER = "naver";
+
+    private final FaultInjector faultInjector;
+
+    public NaverStubController(FaultInjector faultInjector) {
+        this.faultInjector = faultInjector;
+    }
+
+    // POST /naver/oauth2.0/token
+    // grant_type=authorization_code: 토큰 발급, grant_type=delete: 토큰 삭제 (로그아웃)
+    @PostMapping("/oauth2.0/token")
+    public Mono<ResponseEntity<Object>> token(ServerWebExchange exchange) {
+        return exchange.getFormData().flatMap(form -> faultInjector.respond(PROVIDER, () -> {
+            if ("delete".equals(form.getFirst("grant_type"))) {
+                return Map.of("access_token", String.valueOf(form.getFirst("access_token")), "result", "success");
+            }
+            long userId = StubUsers.userId(form.getFirst("code"));
+            return Map.of(
+                    "access_token", StubUsers.accessToken(PROVIDER, userId),
+                    "refresh_token", StubUsers.refreshToken(PROVIDER, userId),
+                    "token_type", "bearer",
+                    "expires_in", 3600);
+        }));
+    }
+
+    // GET /naver/v1/nid/me
+    @GetMapping("/v1/nid/me")
+    public Mono<ResponseEntity<Object>> userInfo(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        long userId = StubUsers.userIdFromToken(authorization);
+        if (userId < 0) {
+            return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("resultcode", "024", "message", "Authentication failed")));
+        }
+        return faultInjector.respond(PROVIDER, () -> Map.of(
+                "resultcode", "00",
+                "message", "success",
+                "response", Map.of(
+                        "id", String.valueOf(userId),
+                        "nickname", StubUsers.nickname(userId),
+                        "name", StubUsers.nickname(userId))));
+    }
+}
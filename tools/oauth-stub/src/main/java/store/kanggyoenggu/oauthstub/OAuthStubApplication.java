@@ -0,0 +1,15 @@
+package store.kanggyoenggu.oauthstub;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+// 부하 테스트용 OAuth 제공자 대역 서버
+// 카카오/네이버/구글의 토큰, 사용자 정보, 로그아웃/연결 끊기 엔드포인트를 흉내내며
+// 지연과 에러를 설정으로 주입할 수 있음
+@SpringBootApplication
+public class OAuthStubApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(OAuthStubApplication.class, args);
+    }
+}
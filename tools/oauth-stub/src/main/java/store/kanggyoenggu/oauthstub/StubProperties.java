@@ -0,0 +1,80 @@
+package store.kanggyoenggu.oauthstub;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+// 제공자 대역 설정 Properties
+// defaults를 기본값으로 쓰고, providers.{kakao|naver|google}에 지정한 값만 덮어씀
+@Configuration
+@ConfigurationProperties(prefix = "stub")
+@Getter
+@Setter
+public class StubProperties {
+
+    // id_token iss 기준 주소
+    private String issuerBase = "http://localhost:9090";
+
+    // 토큰 응답에 id_token 포함 여부
+    private boolean idTokenEnabled = true;
+
+    // 공통 지연/에러 주입 설정
+    private Fault defaults = Fault.defaults();
+
+    // 제공자별 설정 (지정하지 않은 항목은 defaults 사용)
+    private Map<String, Fault> providers = new LinkedHashMap<>();
+
+    public String issuer(String provider) {
+        return issuerBase + "/" + provider;
+    }
+
+    // 제공자별 최종 설정
+    public Fault forProvider(String provider) {
+        Fault override = providers.get(provider);
+        return override == null ? defaults : defaults.merge(override);
+    }
+
+    @Getter
+    @Setter
+    public static class Fault {
+
+        // 응답 지연
+        private Duration latency;
+
+        // 지연에 더할 무작위 편차 (0 ~ jitter)
+        private Duration jitter;
+
+        // 에러 응답 비율 (0.0 ~ 1.0)
+        private Double errorRate;
+
+        // 에러 응답 상태 코드
+        private Integer errorStatus;
+
+        static Fault defaults() {
+            Fault fault = new Fault();
+            fault.latency = Duration.ofMillis(50);
+            fault.jitter = Duration.ZERO;
+            fault.errorRate = 0.0;
+            fault.errorStatus = 500;
+            return fault;
+        }
+
+        Fault merge(Fault override) {
+            Fault merged = new Fault();
+            merged.latency = pick(override.latency, latency);
+            merged.jitter = pick(override.jitter, jitter);
+            merged.errorRate = pick(override.errorRate, errorRate);
+            merged.errorStatus = pick(override.errorStatus, errorStatus);
+            return merged;
+        }
+
+        private static <T> T pick(T value, T fallback) {
+            return value != null ? value : fallback;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package store.kanggyoenggu.oauthstub;
+
+// 대역 사용자
+// 인가 코드에서 사용자 ID를 결정적으로 만들고, 액세스 토큰에 사용자 ID를 담아
+// 사용자 정보 조회 시 상태 저장 없이 같은 사용자를 돌려줌
+public final class StubUsers {
+
+    private static final String ACCESS_TOKEN_PREFIX = "stub-at-";
+
+    private StubUsers() {
+    }
+
+    // 같은 code는 항상 같은 사용자 (양수 ID)
+    public static long userId(String code) {
+        long hash = code == null ? 0 : code.hashCode();
+        return (hash & 0x7fffffffL) + 1;
+    }
+
+    public static String nickname(long userId) {
+        return "사용자" + userId;
+    }
+
+    public static String accessToken(String provider, long userId) {
+        return ACCESS_TOKEN_PREFIX + provider + "-" + userId;
+    }
+
+    public static String refreshToken(String provider, long userId) {
+        return "stub-rt-" + provider + "-" + userId;
+    }
+
+    // "Bearer stub-at-{provider}-{id}" 또는 토큰 값에서 사용자 ID 추출 (형식이 다르면 -1)
+    public static long userIdFromToken(String authorizationOrToken) {
+        if (authorizationOrToken == null) {
+            return -1;
+        }
+        String token = authorizationOrToken.startsWith("Bearer ")
+                ? authorizationOrToken.substring(7)
+                : authorizationOrToken;
+        if (!token.startsWith(ACCESS_TOKEN_PREFIX)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(token.substring(token.lastIndexOf('-') + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}